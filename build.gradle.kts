@@ -34,8 +34,20 @@ dependencies {
     api("org.springframework:spring-context:7.0.2")
     api("org.springframework:spring-web:7.0.2")
     implementation("jakarta.servlet:jakarta.servlet-api:6.1.0")
+    compileOnly("org.springframework:spring-websocket:7.0.2")
+    compileOnly("org.springframework:spring-messaging:7.0.2")
     implementation("org.springframework.boot:spring-boot-starter-aop:3.5.9")
     api("com.github.Bravos-World:steak-utils:v1.1.5")
+    testImplementation(platform("org.junit:junit-bom:6.0.1"))
+    testImplementation("org.junit.jupiter:junit-jupiter")
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+    testImplementation("org.springframework:spring-test:7.0.2")
+    testImplementation("org.springframework:spring-websocket:7.0.2")
+    testImplementation("org.springframework:spring-messaging:7.0.2")
+}
+
+tasks.test {
+    useJUnitPlatform()
 }
 
 publishing {
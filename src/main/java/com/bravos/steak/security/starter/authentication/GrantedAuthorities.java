@@ -0,0 +1,69 @@
+package com.bravos.steak.security.starter.authentication;
+
+import com.bravos.steak.security.starter.model.Scope;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interning cache of {@link GrantedAuthority} instances shared across requests.
+ * <p>
+ * Each permission and scope pair maps to a single {@link SimpleGrantedAuthority} whose value
+ * follows the X-Authorities format "action.resource.scope" (e.g., "create.user.tenant"), so the
+ * same strings can be used in {@code @PreAuthorize("hasAuthority('create.user.tenant')")}.
+ * <p>
+ * Lookups do not concatenate strings; the authority is only built the first time a pair is seen.
+ */
+public final class GrantedAuthorities {
+
+  /**
+   * Upper bound of interned permissions. Permissions beyond this limit are still resolved,
+   * but allocated per call instead of being cached.
+   */
+  private static final int MAX_INTERNED_PERMISSIONS = 8192;
+
+  private static final Scope[] SCOPES_BY_VALUE = new Scope[Scope.values().length];
+
+  static {
+    for(Scope scope: Scope.values()) {
+      SCOPES_BY_VALUE[scope.getValue()] = scope;
+    }
+  }
+
+  private static final Map<String, GrantedAuthority[]> INTERNED = new ConcurrentHashMap<>();
+
+  private GrantedAuthorities() {
+  }
+
+  /**
+   * Returns the shared {@link GrantedAuthority} for the given permission and scope.
+   *
+   * @param permission the permission ("action.resource")
+   * @param scope the scope value
+   * @return the interned granted authority
+   */
+  public static GrantedAuthority of(String permission, byte scope) {
+    int index = scope >= 0 && scope < SCOPES_BY_VALUE.length ? scope : Scope.NONE.getValue();
+    GrantedAuthority[] byScope = INTERNED.get(permission);
+    if(byScope == null) {
+      if(INTERNED.size() >= MAX_INTERNED_PERMISSIONS) {
+        return create(permission, index);
+      }
+      byScope = INTERNED.computeIfAbsent(permission, key -> new GrantedAuthority[SCOPES_BY_VALUE.length]);
+    }
+    GrantedAuthority authority = byScope[index];
+    if(authority == null) {
+      authority = create(permission, index);
+      byScope[index] = authority;
+    }
+    return authority;
+  }
+
+  private static GrantedAuthority create(String permission, int scopeIndex) {
+    String scopeName = SCOPES_BY_VALUE[scopeIndex].name().toLowerCase();
+    return new SimpleGrantedAuthority(permission.concat(".").concat(scopeName));
+  }
+
+}
@@ -0,0 +1,101 @@
+package com.bravos.steak.security.starter.authentication;
+
+import com.bravos.steak.security.starter.context.RequestContext;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Spring Security {@link Authentication} view of a {@link RequestContext}.
+ * <p>
+ * Authorities are materialized from {@link RequestContext#getAuthorities()} on first access
+ * only, using interned {@link GrantedAuthority} instances from {@link GrantedAuthorities}.
+ * Requests that never consult Spring Security pay nothing beyond this wrapper.
+ * <p>
+ * The principal is the user identifier and the name is its string representation.
+ *
+ * @see com.bravos.steak.security.starter.filter.AuthenticationBridgeFilter
+ */
+public class RequestContextAuthentication implements Authentication {
+
+  private final transient RequestContext requestContext;
+
+  private transient Collection<GrantedAuthority> authorities;
+
+  public RequestContextAuthentication(RequestContext requestContext) {
+    this.requestContext = requestContext;
+  }
+
+  /**
+   * Returns the underlying request context.
+   *
+   * @return the request context
+   */
+  public RequestContext getRequestContext() {
+    return requestContext;
+  }
+
+  @Override
+  public Collection<? extends GrantedAuthority> getAuthorities() {
+    Collection<GrantedAuthority> result = this.authorities;
+    if(result == null) {
+      result = buildAuthorities(requestContext.getAuthorities());
+      this.authorities = result;
+    }
+    return result;
+  }
+
+  @Override
+  public Object getCredentials() {
+    return null;
+  }
+
+  @Override
+  public Object getDetails() {
+    return null;
+  }
+
+  @Override
+  public Object getPrincipal() {
+    return requestContext.getUserId();
+  }
+
+  @Override
+  public boolean isAuthenticated() {
+    return requestContext.isAuthenticated();
+  }
+
+  /**
+   * The authentication state is derived from the request context and cannot be changed.
+   *
+   * @param isAuthenticated ignored unless {@code true}
+   * @throws IllegalArgumentException if an attempt is made to mark the authentication as trusted
+   */
+  @Override
+  public void setAuthenticated(boolean isAuthenticated) throws IllegalArgumentException {
+    if(isAuthenticated) {
+      throw new IllegalArgumentException("Authentication state is derived from the request context");
+    }
+  }
+
+  @Override
+  public String getName() {
+    Long userId = requestContext.getUserId();
+    return userId == null ? "" : userId.toString();
+  }
+
+  private static Collection<GrantedAuthority> buildAuthorities(Map<String, Byte> authoritiesMap) {
+    if(authoritiesMap == null || authoritiesMap.isEmpty()) {
+      return List.of();
+    }
+    List<GrantedAuthority> grantedAuthorities = new ArrayList<>(authoritiesMap.size());
+    authoritiesMap.forEach((permission, scope) -> grantedAuthorities.add(GrantedAuthorities.of(permission, scope)));
+    return Collections.unmodifiableList(grantedAuthorities);
+  }
+
+}
@@ -0,0 +1,32 @@
+package com.bravos.steak.security.starter.authority;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.util.Map;
+
+/**
+ * Strategy for resolving the authorities of an authenticated request.
+ * <p>
+ * {@link com.bravos.steak.security.starter.filter.SecurityFilter} delegates to this interface
+ * once the request is known to be authenticated. Implementations decide which headers carry
+ * the authorities and how they are expanded into the permission to scope map exposed by
+ * {@link com.bravos.steak.security.starter.context.RequestContext#getAuthorities()}.
+ * <p>
+ * Implementations must be thread-safe and should return immutable maps, as the same
+ * instance may be shared between concurrent requests.
+ *
+ * @see HeaderAuthoritiesResolver
+ * @see RoleAuthoritiesResolver
+ */
+public interface AuthoritiesResolver {
+
+  /**
+   * Resolves the authorities of the given authenticated request.
+   *
+   * @param request the HTTP request
+   * @return immutable map of permission ("action.resource") to scope value, or {@code null}
+   *         if the authorities are missing or malformed, in which case the request is rejected
+   */
+  Map<String, Byte> resolve(HttpServletRequest request);
+
+}
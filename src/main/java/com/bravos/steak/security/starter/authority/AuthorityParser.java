@@ -0,0 +1,53 @@
+package com.bravos.steak.security.starter.authority;
+
+import com.bravos.steak.security.starter.model.Scope;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Parses authority strings into the permission to scope map used by the request context.
+ * <p>
+ * Expected format: "action.resource.scope" (e.g., "create.user.tenant").
+ * Unknown scopes are mapped to {@link Scope#NONE}. Parsing never throws; malformed
+ * input yields {@code null}.
+ */
+public final class AuthorityParser {
+
+  private AuthorityParser() {
+  }
+
+  /**
+   * Builds an authorities map from a comma-separated authorities value.
+   *
+   * @param authorities comma-separated authority strings
+   * @return immutable map of permission to scope value, or {@code null} if an entry is malformed
+   */
+  public static Map<String, Byte> parse(String authorities) {
+    return parse(authorities.split(","));
+  }
+
+  /**
+   * Builds an authorities map from an array of authority strings.
+   *
+   * @param authorities array of authority strings
+   * @return immutable map of permission to scope value, or {@code null} if an entry is malformed
+   */
+  public static Map<String, Byte> parse(String[] authorities) {
+    Map<String, Byte> authoritiesMap = new HashMap<>();
+    for(String authority: authorities) {
+      authority = authority.trim();
+      final int firstDot = authority.indexOf('.');
+      final int lastDot = authority.lastIndexOf('.');
+      if(firstDot <= 0 || lastDot == firstDot || lastDot == firstDot + 1
+          || lastDot == authority.length() - 1 || authority.indexOf('.', firstDot + 1) != lastDot) {
+        return null;
+      }
+      String resourceAction = authority.substring(0, lastDot);
+      authoritiesMap.put(resourceAction, Scope.parse(authority.substring(lastDot + 1)).getValue());
+    }
+    return Collections.unmodifiableMap(authoritiesMap);
+  }
+
+}
@@ -0,0 +1,38 @@
+package com.bravos.steak.security.starter.authority;
+
+import com.bravos.steak.security.starter.validation.HeaderValidator;
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.util.Map;
+
+/**
+ * Default {@link AuthoritiesResolver} that reads every permission from the X-Authorities header.
+ * <p>
+ * Expected header format: comma-separated "action.resource.scope" entries
+ * (e.g., "create.user.tenant,read.user.own"). The header is checked by the {@link HeaderValidator}
+ * before it is parsed.
+ *
+ * @see AuthorityParser
+ */
+public class HeaderAuthoritiesResolver implements AuthoritiesResolver {
+
+  private final HeaderValidator headerValidator;
+
+  public HeaderAuthoritiesResolver() {
+    this(new HeaderValidator());
+  }
+
+  public HeaderAuthoritiesResolver(HeaderValidator headerValidator) {
+    this.headerValidator = headerValidator;
+  }
+
+  @Override
+  public Map<String, Byte> resolve(HttpServletRequest request) {
+    final String authoritiesHeader = request.getHeader("X-Authorities");
+    if(!headerValidator.isValidList(authoritiesHeader)) {
+      return null;
+    }
+    return AuthorityParser.parse(authoritiesHeader);
+  }
+
+}
@@ -0,0 +1,93 @@
+package com.bravos.steak.security.starter.authority;
+
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.io.UrlResource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLConnection;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * {@link RolePermissionSource} backed by a Spring {@link Resource} in properties format.
+ * <p>
+ * The location accepts any prefix supported by {@link DefaultResourceLoader}, for example
+ * {@code classpath:roles.properties}, {@code file:/etc/steak/roles.properties} or
+ * {@code https://iam.internal/roles.properties}. The resource is read again on every
+ * {@link #load()} call.
+ * <p>
+ * Remote locations are opened with connect and read timeouts, so a stalled endpoint fails the
+ * load instead of blocking startup or the background refresh indefinitely.
+ * <p>
+ * <strong>Format:</strong>
+ * <pre>
+ * # role=comma-separated authorities
+ * 1=read.user.own,update.user.own
+ * 2=read.user.tenant,create.order.tenant
+ * </pre>
+ */
+public class ResourceRolePermissionSource implements RolePermissionSource {
+
+  public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(10);
+
+  private final ResourceLoader resourceLoader;
+
+  private final String location;
+
+  private final int timeoutMillis;
+
+  public ResourceRolePermissionSource(String location) {
+    this(new DefaultResourceLoader(), location);
+  }
+
+  public ResourceRolePermissionSource(ResourceLoader resourceLoader, String location) {
+    this(resourceLoader, location, DEFAULT_TIMEOUT);
+  }
+
+  public ResourceRolePermissionSource(ResourceLoader resourceLoader, String location, Duration timeout) {
+    this.resourceLoader = resourceLoader;
+    this.location = location;
+    this.timeoutMillis = (int) Math.min(timeout.toMillis(), Integer.MAX_VALUE);
+  }
+
+  @Override
+  public Map<String, Map<String, Byte>> load() throws IOException {
+    Properties properties = new Properties();
+    try(InputStream inputStream = open(resourceLoader.getResource(location))) {
+      properties.load(inputStream);
+    }
+    Map<String, Map<String, Byte>> rolePermissions = new HashMap<>();
+    for(String role: properties.stringPropertyNames()) {
+      String authorities = properties.getProperty(role).trim();
+      Map<String, Byte> permissions = authorities.isEmpty() ? Map.of() : AuthorityParser.parse(authorities);
+      if(permissions == null) {
+        throw new IOException("Malformed authorities for role " + role + " in " + location);
+      }
+      rolePermissions.put(role.trim(), permissions);
+    }
+    return rolePermissions;
+  }
+
+  /**
+   * Opens the resource, applying the connect and read timeouts to remote URLs.
+   *
+   * @param resource the role table resource
+   * @return the resource content
+   * @throws IOException if the resource cannot be opened
+   */
+  private InputStream open(Resource resource) throws IOException {
+    if(resource instanceof UrlResource && !resource.isFile()) {
+      URLConnection connection = resource.getURL().openConnection();
+      connection.setConnectTimeout(timeoutMillis);
+      connection.setReadTimeout(timeoutMillis);
+      return connection.getInputStream();
+    }
+    return resource.getInputStream();
+  }
+
+}
@@ -0,0 +1,195 @@
+package com.bravos.steak.security.starter.authority;
+
+import com.bravos.steak.security.starter.validation.HeaderValidator;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link AuthoritiesResolver} that expands compact role identifiers from the X-Roles header
+ * into authorities using a locally cached role to permission table.
+ * <p>
+ * The table is loaded from a {@link RolePermissionSource} on startup and reloaded in the
+ * background at a fixed interval, so requests never wait for a reload. Each reload builds a
+ * new immutable snapshot which replaces the previous one with a single volatile write; if a
+ * reload fails the previous snapshot stays in use.
+ * <p>
+ * Expansion results are memoized per role combination within a snapshot, so the header is only
+ * parsed the first time a role combination is seen. The cache key is the canonical form of the
+ * header: role identifiers trimmed, de-duplicated and sorted, so "1,2", "2,1", "1, 2" and "1,2,2"
+ * share one entry. Gateways sending canonical headers hit the cache without any parsing; other
+ * spellings are canonicalized on each request. When several roles grant the same
+ * permission, the broadest scope wins. Unknown roles are ignored. Role combinations that are not
+ * cached yet are checked by the {@link HeaderValidator} before they are expanded.
+ * <p>
+ * Requests without an X-Roles header are delegated to the fallback resolver, which allows
+ * gateways to migrate from X-Authorities gradually.
+ * <p>
+ * Header format: comma-separated role identifiers (e.g., "1,2,7").
+ *
+ * @see RolePermissionSource
+ * @see HeaderAuthoritiesResolver
+ */
+@Slf4j
+public class RoleAuthoritiesResolver implements AuthoritiesResolver, InitializingBean, DisposableBean {
+
+  /**
+   * Upper bound of memoized role combinations per snapshot, protecting the cache from
+   * unbounded growth when clients send arbitrary combinations.
+   */
+  static final int MAX_MEMOIZED_COMBINATIONS = 4096;
+
+  private final RolePermissionSource source;
+
+  private final AuthoritiesResolver fallback;
+
+  private final HeaderValidator headerValidator;
+
+  private final Duration refreshInterval;
+
+  private volatile Snapshot snapshot = new Snapshot(Map.of());
+
+  private ScheduledExecutorService scheduler;
+
+  public RoleAuthoritiesResolver(RolePermissionSource source,
+                                 AuthoritiesResolver fallback,
+                                 HeaderValidator headerValidator,
+                                 Duration refreshInterval) {
+    this.source = source;
+    this.fallback = fallback;
+    this.headerValidator = headerValidator;
+    this.refreshInterval = refreshInterval;
+  }
+
+  /**
+   * Loads the initial table and schedules the background refresh.
+   * <p>
+   * A failing initial load fails application startup.
+   *
+   * @throws Exception if the initial table cannot be loaded
+   */
+  @Override
+  public void afterPropertiesSet() throws Exception {
+    this.snapshot = new Snapshot(source.load());
+    if(refreshInterval.isPositive()) {
+      scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "steak-role-permission-refresh");
+        thread.setDaemon(true);
+        return thread;
+      });
+      long millis = refreshInterval.toMillis();
+      scheduler.scheduleWithFixedDelay(this::refresh, millis, millis, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  @Override
+  public void destroy() {
+    if(scheduler != null) {
+      scheduler.shutdownNow();
+    }
+  }
+
+  /**
+   * Reloads the role to permission table and swaps the snapshot atomically.
+   * <p>
+   * Failures are logged and the current snapshot is kept.
+   */
+  public void refresh() {
+    try {
+      this.snapshot = new Snapshot(source.load());
+    } catch (Exception e) {
+      log.warn("Failed to refresh role permission table, keeping previous snapshot", e);
+    }
+  }
+
+  @Override
+  public Map<String, Byte> resolve(HttpServletRequest request) {
+    final String rolesHeader = request.getHeader("X-Roles");
+    if(rolesHeader == null) {
+      return fallback.resolve(request);
+    }
+    return snapshot.expand(rolesHeader, headerValidator);
+  }
+
+  /**
+   * Immutable view of the role to permission table together with its expansion cache.
+   * <p>
+   * Keeping the cache inside the snapshot means a swap invalidates all memoized expansions
+   * at once, without any coordination with in-flight requests.
+   */
+  private static final class Snapshot {
+
+    private final Map<String, Map<String, Byte>> rolePermissions;
+
+    private final Map<String, Map<String, Byte>> expansions = new ConcurrentHashMap<>();
+
+    private Snapshot(Map<String, Map<String, Byte>> rolePermissions) {
+      this.rolePermissions = Map.copyOf(rolePermissions);
+    }
+
+    private Map<String, Byte> expand(String rolesHeader, HeaderValidator headerValidator) {
+      Map<String, Byte> expanded = expansions.get(rolesHeader);
+      if(expanded != null) {
+        return expanded;
+      }
+      if(!headerValidator.isValidList(rolesHeader)) {
+        return null;
+      }
+      final String[] roles = canonicalRoles(rolesHeader);
+      final String key = String.join(",", roles);
+      expanded = expansions.get(key);
+      if(expanded != null) {
+        return expanded;
+      }
+      expanded = build(roles);
+      if(expansions.size() < MAX_MEMOIZED_COMBINATIONS) {
+        Map<String, Byte> existing = expansions.putIfAbsent(key, expanded);
+        if(existing != null) {
+          return existing;
+        }
+      }
+      return expanded;
+    }
+
+    /**
+     * Returns the role identifiers of the header trimmed, de-duplicated and sorted.
+     *
+     * @param rolesHeader the validated X-Roles header
+     * @return the canonical role identifiers
+     */
+    private static String[] canonicalRoles(String rolesHeader) {
+      return Arrays.stream(rolesHeader.split(","))
+          .map(String::trim)
+          .filter(role -> !role.isEmpty())
+          .distinct()
+          .sorted()
+          .toArray(String[]::new);
+    }
+
+    private Map<String, Byte> build(String[] roles) {
+      Map<String, Byte> authoritiesMap = new HashMap<>();
+      for(String role: roles) {
+        Map<String, Byte> permissions = rolePermissions.get(role);
+        if(permissions == null) {
+          continue;
+        }
+        permissions.forEach((permission, scope) -> authoritiesMap.merge(permission, scope,
+            (current, candidate) -> current >= candidate ? current : candidate));
+      }
+      return Collections.unmodifiableMap(authoritiesMap);
+    }
+
+  }
+
+}
@@ -0,0 +1,26 @@
+package com.bravos.steak.security.starter.authority;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Source of the role to permission table used by {@link RoleAuthoritiesResolver}.
+ * <p>
+ * Each invocation of {@link #load()} must return a complete, self-contained table.
+ * The resolver swaps the whole table atomically, so partial results are never observed
+ * by requests.
+ *
+ * @see ResourceRolePermissionSource
+ */
+@FunctionalInterface
+public interface RolePermissionSource {
+
+  /**
+   * Loads the current role to permission table.
+   *
+   * @return map of role identifier to its permission to scope map
+   * @throws IOException if the table cannot be read
+   */
+  Map<String, Map<String, Byte>> load() throws IOException;
+
+}
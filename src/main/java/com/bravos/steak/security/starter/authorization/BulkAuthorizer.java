@@ -0,0 +1,145 @@
+package com.bravos.steak.security.starter.authorization;
+
+import com.bravos.steak.security.starter.context.RequestContext;
+import com.bravos.steak.security.starter.context.RequestContextHolder;
+import com.bravos.steak.security.starter.model.Scope;
+
+import java.util.BitSet;
+import java.util.Map;
+
+/**
+ * Evaluates permission checks against many resources at once.
+ * <p>
+ * Each check is looked up in the caller's authorities only once; the rows are then filtered
+ * in a single primitive loop over the owner and tenant identifiers. For row {@code i}, a check
+ * allows access when the caller's scope for the permission is:
+ * <ul>
+ *   <li>{@link Scope#ALL} - always</li>
+ *   <li>{@link Scope#TENANT} - {@code tenantIds[i]} equals the caller's tenant, or {@code ownerIds[i]}
+ *   equals the caller's user</li>
+ *   <li>{@link Scope#OWN} - {@code ownerIds[i]} equals the caller's user</li>
+ *   <li>{@link Scope#NONE} or missing - never</li>
+ * </ul>
+ * Unauthenticated requests are never allowed.
+ * <p>
+ * <strong>Note:</strong> scopes are treated as a hierarchy here (ALL covers TENANT, which covers
+ * rows the caller owns). This differs from
+ * {@link com.bravos.steak.security.starter.annotation.HasAuthority}, which
+ * {@link com.bravos.steak.security.starter.annotation.aspect.SecurityAspect} checks for an exact
+ * scope match.
+ * <p>
+ * <strong>Usage Example:</strong>
+ * <pre>{@code
+ * BitSet[] allowed = BulkAuthorizer.authorize(new PermissionCheck[] {READ_ORDER, UPDATE_ORDER}, ownerIds, tenantIds);
+ * BitSet readable = allowed[0];
+ * BitSet editable = allowed[1];
+ * }</pre>
+ *
+ * @see PermissionCheck
+ */
+public final class BulkAuthorizer {
+
+  private BulkAuthorizer() {
+  }
+
+  /**
+   * Evaluates a single check for every row using the current request context.
+   *
+   * @param check the permission check
+   * @param ownerIds owner identifier of each row
+   * @param tenantIds tenant identifier of each row
+   * @return bit set of allowed row indexes
+   * @throws IllegalArgumentException if the arrays differ in length
+   */
+  public static BitSet authorize(PermissionCheck check, long[] ownerIds, long[] tenantIds) {
+    return authorize(RequestContextHolder.get(), new PermissionCheck[]{check}, ownerIds, tenantIds)[0];
+  }
+
+  /**
+   * Evaluates several checks for every row in one pass using the current request context.
+   *
+   * @param checks the permission checks
+   * @param ownerIds owner identifier of each row
+   * @param tenantIds tenant identifier of each row
+   * @return one bit set of allowed row indexes per check, in the order of {@code checks}
+   * @throws IllegalArgumentException if the arrays differ in length
+   */
+  public static BitSet[] authorize(PermissionCheck[] checks, long[] ownerIds, long[] tenantIds) {
+    return authorize(RequestContextHolder.get(), checks, ownerIds, tenantIds);
+  }
+
+  /**
+   * Evaluates several checks for every row in one pass against the given request context.
+   *
+   * @param requestContext the request context of the caller
+   * @param checks the permission checks
+   * @param ownerIds owner identifier of each row
+   * @param tenantIds tenant identifier of each row
+   * @return one bit set of allowed row indexes per check, in the order of {@code checks}
+   * @throws IllegalArgumentException if the arrays differ in length
+   */
+  public static BitSet[] authorize(RequestContext requestContext,
+                                   PermissionCheck[] checks,
+                                   long[] ownerIds,
+                                   long[] tenantIds) {
+    if(ownerIds.length != tenantIds.length) {
+      throw new IllegalArgumentException("ownerIds and tenantIds must have the same length");
+    }
+    final int rows = ownerIds.length;
+    final BitSet[] result = new BitSet[checks.length];
+    final byte[] scopes = resolveScopes(requestContext, checks);
+
+    final Long userIdValue = requestContext.getUserId();
+    final Long tenantIdValue = requestContext.getTenantId();
+    final boolean hasUserId = userIdValue != null;
+    final boolean hasTenantId = tenantIdValue != null;
+    final long userId = hasUserId ? userIdValue : 0L;
+    final long tenantId = hasTenantId ? tenantIdValue : 0L;
+
+    boolean perRow = false;
+    for(int j = 0; j < checks.length; j++) {
+      result[j] = new BitSet(rows);
+      if(scopes[j] == Scope.ALL.getValue()) {
+        result[j].set(0, rows);
+      } else if(scopes[j] == Scope.TENANT.getValue() || scopes[j] == Scope.OWN.getValue()) {
+        perRow = true;
+      }
+    }
+    if(!perRow) {
+      return result;
+    }
+
+    for(int i = 0; i < rows; i++) {
+      final boolean own = hasUserId && ownerIds[i] == userId;
+      final boolean tenant = own || (hasTenantId && tenantIds[i] == tenantId);
+      for(int j = 0; j < scopes.length; j++) {
+        final byte scope = scopes[j];
+        if((scope == Scope.TENANT.getValue() && tenant) || (scope == Scope.OWN.getValue() && own)) {
+          result[j].set(i);
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Resolves the caller's scope for each check, with one authorities lookup per check.
+   *
+   * @param requestContext the request context of the caller
+   * @param checks the permission checks
+   * @return the scope value of each check
+   */
+  private static byte[] resolveScopes(RequestContext requestContext, PermissionCheck[] checks) {
+    final byte[] scopes = new byte[checks.length];
+    final Map<String, Byte> authorities = requestContext.getAuthorities();
+    if(!requestContext.isAuthenticated() || authorities == null) {
+      return scopes;
+    }
+    for(int j = 0; j < checks.length; j++) {
+      Byte scope = authorities.get(checks[j].getPermission());
+      scopes[j] = scope == null ? Scope.NONE.getValue() : scope;
+    }
+    return scopes;
+  }
+
+}
@@ -0,0 +1,49 @@
+package com.bravos.steak.security.starter.authorization;
+
+import lombok.Getter;
+
+/**
+ * Precompiled permission used by {@link BulkAuthorizer}.
+ * <p>
+ * The permission key is built once, so checks can be kept in constants and reused
+ * across requests without string concatenation.
+ * <p>
+ * <strong>Usage Example:</strong>
+ * <pre>{@code
+ * private static final PermissionCheck READ_ORDER = PermissionCheck.of("read", "order"); // "read.order"
+ * }</pre>
+ *
+ * @see BulkAuthorizer
+ */
+@Getter
+public final class PermissionCheck {
+
+  /**
+   * The permission key in "action.resource" format.
+   */
+  private final String permission;
+
+  private PermissionCheck(String permission) {
+    this.permission = permission;
+  }
+
+  /**
+   * Creates a permission check for the given action and resource, matching
+   * {@link com.bravos.steak.security.starter.annotation.HasAuthority}.
+   * <p>
+   * Arguments follow the order of the permission key ("action.resource").
+   *
+   * @param action the action name
+   * @param resource the resource name
+   * @return the permission check
+   */
+  public static PermissionCheck of(String action, String resource) {
+    return new PermissionCheck(action.concat(".").concat(resource));
+  }
+
+  @Override
+  public String toString() {
+    return permission;
+  }
+
+}
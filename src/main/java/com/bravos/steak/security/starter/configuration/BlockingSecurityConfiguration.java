@@ -1,18 +1,32 @@
 package com.bravos.steak.security.starter.configuration;
 
 import com.bravos.steak.security.starter.annotation.aspect.SecurityAspect;
+import com.bravos.steak.security.starter.authority.AuthoritiesResolver;
+import com.bravos.steak.security.starter.authority.HeaderAuthoritiesResolver;
+import com.bravos.steak.security.starter.authority.ResourceRolePermissionSource;
+import com.bravos.steak.security.starter.authority.RoleAuthoritiesResolver;
+import com.bravos.steak.security.starter.context.ApplicationTaskExecutorPostProcessor;
+import com.bravos.steak.security.starter.filter.AuthenticationBridgeFilter;
 import com.bravos.steak.security.starter.filter.InternalCheckingFilter;
 import com.bravos.steak.security.starter.filter.SecurityFilter;
+import com.bravos.steak.security.starter.validation.HeaderValidator;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ResourceLoader;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.time.Duration;
+
 /**
  * Auto-configuration for the security starter library.
  * <p>
@@ -23,9 +37,15 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
  * <strong>Key Components Configured:</strong>
  * <ul>
  *   <li>{@link SecurityFilter} - Extracts security context from HTTP headers</li>
+ *   <li>{@link HeaderValidator} - Enforces limits on security header values</li>
+ *   <li>{@link AuthoritiesResolver} - Resolves authorities from X-Authorities or, when enabled, X-Roles</li>
  *   <li>{@link InternalCheckingFilter} - Validates internal service requests</li>
+ *   <li>{@link AuthenticationBridgeFilter} - Optionally exposes the request context to Spring Security</li>
  *   <li>{@link SecurityAspect} - Enforces security annotations on methods</li>
+ *   <li>{@link ApplicationTaskExecutorPostProcessor} - Propagates the request context to async MVC tasks</li>
  *   <li>{@link SecurityFilterChain} - Configures Spring Security (stateless, permits all)</li>
+ *   <li>{@link WebSocketSecurityConfiguration} - Propagates the request context to STOMP messages,
+ *   when WebSocket support is on the classpath</li>
  * </ul>
  * <p>
  * <strong>Security Configuration:</strong>
@@ -43,18 +63,77 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
  * @see SecurityFilter
  * @see InternalCheckingFilter
  * @see SecurityAspect
+ * @see WebSocketSecurityConfiguration
  */
 @Configuration
+@Import(WebSocketSecurityConfiguration.class)
 public class BlockingSecurityConfiguration {
 
   /**
    * Creates the {@link SecurityFilter} bean that extracts security context from headers.
    *
+   * @param authoritiesResolver the resolver used for authenticated requests
+   * @param headerValidator the validator for security header values
    * @return the security filter instance
    */
   @Bean
-  public SecurityFilter blockingSecurityFilter() {
-    return new SecurityFilter();
+  public SecurityFilter blockingSecurityFilter(AuthoritiesResolver authoritiesResolver,
+                                               HeaderValidator headerValidator) {
+    return new SecurityFilter(authoritiesResolver, headerValidator);
+  }
+
+  /**
+   * Creates the {@link HeaderValidator} bean with the configured header limits.
+   *
+   * @param maxLength maximum length of any security header
+   * @param maxAuthorities maximum number of entries in X-Authorities or X-Roles
+   * @return the header validator instance
+   */
+  @Bean
+  @ConditionalOnMissingBean(HeaderValidator.class)
+  public HeaderValidator headerValidator(@Value("${security.headers.max-length:8192}") int maxLength,
+                                         @Value("${security.headers.max-authorities:256}") int maxAuthorities) {
+    return new HeaderValidator(maxLength, maxAuthorities);
+  }
+
+  /**
+   * Creates the {@link RoleAuthoritiesResolver} bean that expands X-Roles into authorities.
+   * <p>
+   * Only created when {@code security.roles.location} is set. The location accepts
+   * {@code classpath:}, {@code file:} and URL prefixes. Requests without X-Roles fall back
+   * to the X-Authorities header.
+   *
+   * @param resourceLoader the resource loader used to read the role table
+   * @param location the role table location
+   * @param refreshInterval interval between background reloads of the role table
+   * @param timeout connect and read timeout when the role table is loaded from a URL
+   * @param headerValidator the validator for security header values
+   * @return the role authorities resolver instance
+   */
+  @Bean
+  @ConditionalOnMissingBean(AuthoritiesResolver.class)
+  @ConditionalOnProperty("security.roles.location")
+  public RoleAuthoritiesResolver roleAuthoritiesResolver(ResourceLoader resourceLoader,
+                                                         @Value("${security.roles.location}") String location,
+                                                         @Value("${security.roles.refresh-interval:PT5M}") Duration refreshInterval,
+                                                         @Value("${security.roles.timeout:PT10S}") Duration timeout,
+                                                         HeaderValidator headerValidator) {
+    return new RoleAuthoritiesResolver(new ResourceRolePermissionSource(resourceLoader, location, timeout),
+        new HeaderAuthoritiesResolver(headerValidator), headerValidator, refreshInterval);
+  }
+
+  /**
+   * Creates the default {@link AuthoritiesResolver} that reads the X-Authorities header.
+   * <p>
+   * Only created if no other resolver is configured.
+   *
+   * @param headerValidator the validator for security header values
+   * @return the header authorities resolver instance
+   */
+  @Bean
+  @ConditionalOnMissingBean(AuthoritiesResolver.class)
+  public AuthoritiesResolver authoritiesResolver(HeaderValidator headerValidator) {
+    return new HeaderAuthoritiesResolver(headerValidator);
   }
 
   /**
@@ -67,6 +146,34 @@ public class BlockingSecurityConfiguration {
     return new InternalCheckingFilter();
   }
 
+  /**
+   * Creates the {@link AuthenticationBridgeFilter} bean that exposes the request context
+   * as a Spring Security {@link org.springframework.security.core.Authentication}.
+   * <p>
+   * Only created when {@code security.authentication-bridge.enabled} is {@code true}.
+   *
+   * @return the authentication bridge filter instance
+   */
+  @Bean
+  @ConditionalOnProperty(value = "security.authentication-bridge.enabled", havingValue = "true")
+  public AuthenticationBridgeFilter authenticationBridgeFilter() {
+    return new AuthenticationBridgeFilter();
+  }
+
+  /**
+   * Creates the {@link ApplicationTaskExecutorPostProcessor} bean that adds the request context
+   * binding to the application task executor (e.g., MVC {@code Callable} handling), keeping
+   * any task decorator the application configured.
+   * <p>
+   * Declared static so it does not force early initialization of this configuration.
+   *
+   * @return the post processor instance
+   */
+  @Bean
+  public static ApplicationTaskExecutorPostProcessor applicationTaskExecutorPostProcessor() {
+    return new ApplicationTaskExecutorPostProcessor();
+  }
+
   /**
    * Creates the {@link SecurityAspect} bean that enforces security annotations.
    *
@@ -94,11 +201,13 @@ public class BlockingSecurityConfiguration {
    *   <li>Sets session management to STATELESS</li>
    *   <li>Adds InternalCheckingFilter before SecurityFilter</li>
    *   <li>Adds SecurityFilter before UsernamePasswordAuthenticationFilter</li>
+   *   <li>Adds AuthenticationBridgeFilter after SecurityFilter, when enabled</li>
    * </ul>
    *
    * @param http the HttpSecurity to configure
    * @param securityFilter the security filter
    * @param internalCheckingFilter the internal checking filter
+   * @param authenticationBridgeFilter the optional authentication bridge filter
    * @return the configured security filter chain
    */
   @Bean
@@ -106,7 +215,8 @@ public class BlockingSecurityConfiguration {
   @ConditionalOnBean({SecurityFilter.class, InternalCheckingFilter.class, HttpSecurity.class})
   public SecurityFilterChain securityFilterChain(HttpSecurity http,
                                                  SecurityFilter securityFilter,
-                                                 InternalCheckingFilter internalCheckingFilter) {
+                                                 InternalCheckingFilter internalCheckingFilter,
+                                                 ObjectProvider<AuthenticationBridgeFilter> authenticationBridgeFilter) {
     http.authorizeHttpRequests(auth -> auth.anyRequest().permitAll())
         .formLogin(AbstractHttpConfigurer::disable)
         .logout(AbstractHttpConfigurer::disable)
@@ -114,6 +224,7 @@ public class BlockingSecurityConfiguration {
         .addFilterBefore(securityFilter, UsernamePasswordAuthenticationFilter.class)
         .addFilterBefore(internalCheckingFilter, SecurityFilter.class)
         .csrf(AbstractHttpConfigurer::disable);
+    authenticationBridgeFilter.ifAvailable(filter -> http.addFilterAfter(filter, SecurityFilter.class));
     return http.build();
   }
 
@@ -0,0 +1,53 @@
+package com.bravos.steak.security.starter.configuration;
+
+import com.bravos.steak.security.starter.websocket.ClientInboundChannelExecutorPostProcessor;
+import com.bravos.steak.security.starter.websocket.RequestContextHandshakeInterceptor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for propagating the request context to WebSocket/STOMP sessions.
+ * <p>
+ * Only active when spring-websocket and spring-messaging are on the classpath.
+ * <p>
+ * <strong>Key Components Configured:</strong>
+ * <ul>
+ *   <li>{@link RequestContextHandshakeInterceptor} - Stores the upgrade request context in the session;
+ *   must be added to the STOMP endpoint by the application</li>
+ *   <li>{@link ClientInboundChannelExecutorPostProcessor} - Binds the session context around each
+ *   inbound message handler</li>
+ * </ul>
+ *
+ * @see BlockingSecurityConfiguration
+ */
+@Configuration
+@ConditionalOnClass(name = {
+    "org.springframework.web.socket.server.HandshakeInterceptor",
+    "org.springframework.messaging.simp.SimpMessageHeaderAccessor"
+})
+public class WebSocketSecurityConfiguration {
+
+  /**
+   * Creates the {@link RequestContextHandshakeInterceptor} bean.
+   *
+   * @return the handshake interceptor instance
+   */
+  @Bean
+  public RequestContextHandshakeInterceptor requestContextHandshakeInterceptor() {
+    return new RequestContextHandshakeInterceptor();
+  }
+
+  /**
+   * Creates the {@link ClientInboundChannelExecutorPostProcessor} bean.
+   * <p>
+   * Declared static so it does not force early initialization of this configuration.
+   *
+   * @return the post processor instance
+   */
+  @Bean
+  public static ClientInboundChannelExecutorPostProcessor clientInboundChannelExecutorPostProcessor() {
+    return new ClientInboundChannelExecutorPostProcessor();
+  }
+
+}
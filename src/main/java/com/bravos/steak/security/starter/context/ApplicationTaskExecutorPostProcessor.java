@@ -0,0 +1,39 @@
+package com.bravos.steak.security.starter.context;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+/**
+ * Adds {@link RequestContextTaskDecorator} to the Spring Boot application task executor.
+ * <p>
+ * Any task decorator the application configured (e.g., a {@code TaskDecorator} bean that
+ * Spring Boot applied to the executor) is kept and runs inside the context binding, so no
+ * additional {@code TaskDecorator} bean is registered.
+ * <p>
+ * If the executor cannot be decorated, a warning is logged and {@code Callable} handlers run
+ * without a bound request context.
+ *
+ * @see RequestContextTaskDecorator
+ * @see TaskDecorators
+ */
+@Slf4j
+public class ApplicationTaskExecutorPostProcessor implements BeanPostProcessor {
+
+  /**
+   * Bean name of the executor auto-configured by Spring Boot and used by Spring MVC async support.
+   */
+  public static final String APPLICATION_TASK_EXECUTOR = "applicationTaskExecutor";
+
+  @Override
+  public Object postProcessBeforeInitialization(@NonNull Object bean, @NonNull String beanName) {
+    if(APPLICATION_TASK_EXECUTOR.equals(beanName) && !TaskDecorators.apply(bean, existing ->
+        existing instanceof RequestContextTaskDecorator ? existing : new RequestContextTaskDecorator(existing))) {
+      log.warn("Cannot apply {} to '{}' of type {}; async tasks will run without a bound request context. "
+              + "Use RequestContextHolder.wrap(...) instead.",
+          RequestContextTaskDecorator.class.getSimpleName(), beanName, bean.getClass().getName());
+    }
+    return bean;
+  }
+
+}
@@ -1,9 +1,12 @@
 package com.bravos.steak.security.starter.context;
 
+import java.util.concurrent.Callable;
+
 /**
  * Utility class for managing the {@link RequestContext} in a scoped manner.
  * <p>
- * Provides methods to get the current {@link RequestContext}.
+ * Provides methods to get the current {@link RequestContext} and to carry it over to
+ * tasks executed on other threads (e.g., {@code AsyncContext.start} or custom executors).
  */
 
 public final class RequestContextHolder {
@@ -14,4 +17,37 @@ public final class RequestContextHolder {
     return REQUEST_CONTEXT.get();
   }
 
+  /**
+   * Wraps a task so that it runs with the current {@link RequestContext} bound.
+   * <p>
+   * Returns the task unchanged if no context is bound on the calling thread.
+   *
+   * @param task the task to wrap
+   * @return the wrapped task
+   */
+  public static Runnable wrap(Runnable task) {
+    if(!REQUEST_CONTEXT.isBound()) {
+      return task;
+    }
+    final RequestContext requestContext = REQUEST_CONTEXT.get();
+    return () -> ScopedValue.where(REQUEST_CONTEXT, requestContext).run(task);
+  }
+
+  /**
+   * Wraps a task so that it runs with the current {@link RequestContext} bound.
+   * <p>
+   * Returns the task unchanged if no context is bound on the calling thread.
+   *
+   * @param task the task to wrap
+   * @param <V> the result type
+   * @return the wrapped task
+   */
+  public static <V> Callable<V> wrap(Callable<V> task) {
+    if(!REQUEST_CONTEXT.isBound()) {
+      return task;
+    }
+    final RequestContext requestContext = REQUEST_CONTEXT.get();
+    return () -> ScopedValue.where(REQUEST_CONTEXT, requestContext).call(task::call);
+  }
+
 }
@@ -0,0 +1,41 @@
+package com.bravos.steak.security.starter.context;
+
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * {@link TaskDecorator} that binds the submitting thread's {@link RequestContext} on the
+ * executing thread.
+ * <p>
+ * {@link ApplicationTaskExecutorPostProcessor} adds it to the auto-configured application task
+ * executor, which Spring MVC uses for {@code Callable} and {@code WebAsyncTask} return values.
+ * Controllers returning these types can therefore call {@link RequestContextHolder#get()} from
+ * the async thread.
+ * <p>
+ * An optional delegate decorator (e.g., for MDC or tracing) is applied inside the binding.
+ *
+ * @see RequestContextHolder#wrap(Runnable)
+ * @see ApplicationTaskExecutorPostProcessor
+ */
+public class RequestContextTaskDecorator implements TaskDecorator {
+
+  private final TaskDecorator delegate;
+
+  public RequestContextTaskDecorator() {
+    this(null);
+  }
+
+  /**
+   * Creates a decorator that also applies the given decorator to each task.
+   *
+   * @param delegate the decorator to apply inside the context binding, may be null
+   */
+  public RequestContextTaskDecorator(TaskDecorator delegate) {
+    this.delegate = delegate;
+  }
+
+  @Override
+  public Runnable decorate(Runnable runnable) {
+    return RequestContextHolder.wrap(delegate == null ? runnable : delegate.decorate(runnable));
+  }
+
+}
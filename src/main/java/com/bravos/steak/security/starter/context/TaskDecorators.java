@@ -0,0 +1,69 @@
+package com.bravos.steak.security.starter.context;
+
+import org.springframework.beans.DirectFieldAccessor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.function.UnaryOperator;
+
+/**
+ * Utility for adding a {@link TaskDecorator} to an executor while keeping the one already set.
+ * <p>
+ * Supported executors are {@link ThreadPoolTaskExecutor} (before initialization),
+ * {@link SimpleAsyncTaskExecutor} (including virtual threads) and {@link TaskExecutorAdapter}.
+ */
+public final class TaskDecorators {
+
+  private static final String TASK_DECORATOR_FIELD = "taskDecorator";
+
+  private TaskDecorators() {
+  }
+
+  /**
+   * Replaces the executor's task decorator with the one returned by the wrapper.
+   *
+   * @param executor the executor
+   * @param wrapper function receiving the current task decorator (may be null) and returning the new one
+   * @return true if the decorator was applied, false if the executor is not supported
+   */
+  public static boolean apply(Object executor, UnaryOperator<TaskDecorator> wrapper) {
+    switch(executor) {
+      case ThreadPoolTaskExecutor threadPool when !isInitialized(threadPool) ->
+          threadPool.setTaskDecorator(wrapper.apply(getTaskDecorator(threadPool)));
+      case SimpleAsyncTaskExecutor simpleAsync ->
+          simpleAsync.setTaskDecorator(wrapper.apply(getTaskDecorator(simpleAsync)));
+      case TaskExecutorAdapter adapter ->
+          adapter.setTaskDecorator(wrapper.apply(getTaskDecorator(adapter)));
+      default -> {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isInitialized(ThreadPoolTaskExecutor executor) {
+    try {
+      executor.getThreadPoolExecutor();
+      return true;
+    } catch (IllegalStateException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Reads the task decorator already set on the executor, as the executors expose no getter.
+   *
+   * @param executor the executor
+   * @return the existing task decorator, or null if none is set
+   */
+  private static TaskDecorator getTaskDecorator(Object executor) {
+    DirectFieldAccessor accessor = new DirectFieldAccessor(executor);
+    if(!accessor.isReadableProperty(TASK_DECORATOR_FIELD)) {
+      return null;
+    }
+    return (TaskDecorator) accessor.getPropertyValue(TASK_DECORATOR_FIELD);
+  }
+
+}
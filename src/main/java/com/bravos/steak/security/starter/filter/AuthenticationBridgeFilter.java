@@ -0,0 +1,82 @@
+package com.bravos.steak.security.starter.filter;
+
+import com.bravos.steak.security.starter.authentication.RequestContextAuthentication;
+import com.bravos.steak.security.starter.context.RequestContext;
+import com.bravos.steak.security.starter.context.RequestContextHolder;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextHolderStrategy;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.util.function.SingletonSupplier;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.function.Supplier;
+
+/**
+ * Filter that exposes the current {@link RequestContext} to Spring Security.
+ * <p>
+ * For authenticated requests, a deferred {@link SecurityContext} holding a
+ * {@link RequestContextAuthentication} is registered on the {@link SecurityContextHolderStrategy}.
+ * The context is only built when something (e.g., {@code @PreAuthorize}) reads it, and it is
+ * never saved to a {@link org.springframework.security.web.context.SecurityContextRepository}.
+ * <p>
+ * Must run after {@link SecurityFilter} so the request context is bound.
+ * Enable with the property {@code security.authentication-bridge.enabled=true}.
+ *
+ * @see RequestContextAuthentication
+ * @see SecurityFilter
+ */
+public class AuthenticationBridgeFilter extends OncePerRequestFilter {
+
+  private final SecurityContextHolderStrategy securityContextHolderStrategy =
+      SecurityContextHolder.getContextHolderStrategy();
+
+  /**
+   * Registers the deferred security context and clears it once the request completes.
+   *
+   * @param request the HTTP request
+   * @param response the HTTP response
+   * @param filterChain the filter chain
+   * @throws ServletException if a servlet error occurs
+   * @throws IOException if an I/O error occurs
+   */
+  @Override
+  protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                  @NonNull HttpServletResponse response,
+                                  @NonNull FilterChain filterChain) throws ServletException, IOException {
+    if(!RequestContextHolder.REQUEST_CONTEXT.isBound()) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+    final RequestContext requestContext = RequestContextHolder.get();
+    if(!requestContext.isAuthenticated()) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+    Supplier<SecurityContext> deferredContext =
+        SingletonSupplier.of(() -> new SecurityContextImpl(new RequestContextAuthentication(requestContext)));
+    securityContextHolderStrategy.setDeferredContext(deferredContext);
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      securityContextHolderStrategy.clearContext();
+    }
+  }
+
+  /**
+   * Runs on async dispatches as well, matching {@link SecurityFilter}.
+   *
+   * @return {@code false}
+   */
+  @Override
+  protected boolean shouldNotFilterAsyncDispatch() {
+    return false;
+  }
+
+}
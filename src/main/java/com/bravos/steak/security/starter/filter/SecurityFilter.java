@@ -1,9 +1,12 @@
 package com.bravos.steak.security.starter.filter;
 
+import com.bravos.steak.security.starter.authority.AuthoritiesResolver;
+import com.bravos.steak.security.starter.authority.HeaderAuthoritiesResolver;
 import com.bravos.steak.security.starter.context.CustomRequestContext;
 import com.bravos.steak.security.starter.context.RequestContext;
 import com.bravos.steak.security.starter.context.RequestContextHolder;
-import com.bravos.steak.security.starter.model.Scope;
+import com.bravos.steak.security.starter.validation.HeaderValidator;
+import com.bravos.steak.security.starter.validation.MalformedHeader;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -12,9 +15,10 @@ import lombok.NonNull;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Collections;
-import java.util.HashMap;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
 import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Filter that extracts security context from HTTP headers and populates the request context.
@@ -35,17 +39,70 @@ import java.util.Map;
  *   <li><strong>X-UserId</strong>: User identifier (when authenticated)</li>
  *   <li><strong>X-TenantId</strong>: Tenant identifier (when authenticated)</li>
  *   <li><strong>X-Authorities</strong>: Comma-separated permissions (when authenticated)</li>
+ *   <li><strong>X-Roles</strong>: Comma-separated role identifiers (when authenticated and role expansion is enabled)</li>
  * </ul>
  * <p>
+ * Authorities are resolved through the configured {@link AuthoritiesResolver}, which defaults to
+ * {@link HeaderAuthoritiesResolver}.
+ * <p>
+ * Headers are validated by a {@link HeaderValidator} before use. Requests with missing or malformed
+ * headers are rejected with a pre-built 400 Bad Request response and counted per
+ * {@link MalformedHeader} reason, without throwing exceptions.
+ * <p>
  * Internal requests (URI starting with "/internal/") are handled separately and require
  * the X-Internal-Secret header to be validated by {@link InternalCheckingFilter}.
+ * <p>
+ * The filter also runs on async dispatches (e.g., after a {@code DeferredResult} or
+ * {@code CompletableFuture} completes). Headers are parsed once; async dispatches re-bind the
+ * same context instance, which is kept in the {@link #REQUEST_CONTEXT_ATTRIBUTE} request attribute.
  *
  * @see RequestContext
  * @see RequestContextHolder
  * @see InternalCheckingFilter
+ * @see AuthoritiesResolver
+ * @see HeaderValidator
  */
 public class SecurityFilter extends OncePerRequestFilter {
 
+  /**
+   * Request attribute holding the {@link RequestContext} built for the request.
+   */
+  public static final String REQUEST_CONTEXT_ATTRIBUTE = SecurityFilter.class.getName() + ".REQUEST_CONTEXT";
+
+  private static final byte[] BAD_REQUEST_BODY = "Bad Request".getBytes(StandardCharsets.UTF_8);
+
+  private final AuthoritiesResolver authoritiesResolver;
+
+  private final HeaderValidator headerValidator;
+
+  private final Map<MalformedHeader, LongAdder> rejectedCounts = new EnumMap<>(MalformedHeader.class);
+
+  public SecurityFilter() {
+    this(new HeaderAuthoritiesResolver(), new HeaderValidator());
+  }
+
+  public SecurityFilter(AuthoritiesResolver authoritiesResolver) {
+    this(authoritiesResolver, new HeaderValidator());
+  }
+
+  public SecurityFilter(AuthoritiesResolver authoritiesResolver, HeaderValidator headerValidator) {
+    this.authoritiesResolver = authoritiesResolver;
+    this.headerValidator = headerValidator;
+    for(MalformedHeader reason: MalformedHeader.values()) {
+      rejectedCounts.put(reason, new LongAdder());
+    }
+  }
+
+  /**
+   * Returns the number of requests rejected for the given reason since startup.
+   *
+   * @param reason the rejection reason
+   * @return the rejected request count
+   */
+  public long getRejectedCount(MalformedHeader reason) {
+    return rejectedCounts.get(reason).sum();
+  }
+
   /**
    * Processes the request and populates the request context from security headers.
    * <p>
@@ -55,14 +112,25 @@ public class SecurityFilter extends OncePerRequestFilter {
    * @param request the HTTP request
    * @param response the HTTP response
    * @param filterChain the filter chain
+   * @throws IOException if an I/O error occurs while writing a rejection
    */
   @Override
   protected void doFilterInternal(@NonNull HttpServletRequest request,
                                   @NonNull HttpServletResponse response,
-                                  @NonNull FilterChain filterChain) {
+                                  @NonNull FilterChain filterChain) throws IOException {
+    if(isAsyncDispatch(request)
+        && request.getAttribute(REQUEST_CONTEXT_ATTRIBUTE) instanceof RequestContext asyncRequestContext) {
+      next(filterChain, request, response, asyncRequestContext);
+      return;
+    }
+
     final CustomRequestContext requestContext = new CustomRequestContext();
     final String traceId = request.getHeader("X-TraceId");
 
+    if(!headerValidator.isValidLength(traceId)) {
+      reject(response, MalformedHeader.TRACE_ID);
+      return;
+    }
     requestContext.setTraceId(traceId);
 
     if(request.getRequestURI().startsWith("/internal/")) {
@@ -74,6 +142,15 @@ public class SecurityFilter extends OncePerRequestFilter {
     final String authenticated = request.getHeader("X-Authenticated");
     final String deviceId = request.getHeader("X-DeviceId");
 
+    if(authenticated == null
+        || (!authenticated.equalsIgnoreCase("true") && !authenticated.equalsIgnoreCase("false"))) {
+      reject(response, MalformedHeader.AUTHENTICATED);
+      return;
+    }
+    if(!headerValidator.isValidLength(deviceId)) {
+      reject(response, MalformedHeader.DEVICE_ID);
+      return;
+    }
     requestContext.setAuthenticated(authenticated.equalsIgnoreCase("true"));
     requestContext.setDeviceId(deviceId);
 
@@ -82,38 +159,52 @@ public class SecurityFilter extends OncePerRequestFilter {
       return;
     }
 
-    final String userIdHeader = request.getHeader("X-UserId");
-    final String tenantIdHeader = request.getHeader("X-TenantId");
-    final String authoritiesHeader = request.getHeader("X-Authorities");
-    final String[] authorities = authoritiesHeader.split(",");
+    final long userId = headerValidator.parseId(request.getHeader("X-UserId"));
+    if(userId == HeaderValidator.INVALID_ID) {
+      reject(response, MalformedHeader.USER_ID);
+      return;
+    }
+    final long tenantId = headerValidator.parseId(request.getHeader("X-TenantId"));
+    if(tenantId == HeaderValidator.INVALID_ID) {
+      reject(response, MalformedHeader.TENANT_ID);
+      return;
+    }
+    final Map<String, Byte> authorities = authoritiesResolver.resolve(request);
+    if(authorities == null) {
+      reject(response, MalformedHeader.AUTHORITIES);
+      return;
+    }
 
-    requestContext.setUserId(Long.valueOf(userIdHeader));
-    requestContext.setTenantId(Long.valueOf(tenantIdHeader));
-    requestContext.setAuthorities(buildAuthoritiesMap(authorities));
+    requestContext.setUserId(userId);
+    requestContext.setTenantId(tenantId);
+    requestContext.setAuthorities(authorities);
 
     next(filterChain, request, response, requestContext);
   }
 
   /**
-   * Builds an authorities map from the X-Authorities header value.
-   * <p>
-   * Expected format: "action.resource.scope" (e.g., "create.user.tenant")
+   * Rejects the request with a pre-built 400 Bad Request response and counts the rejection.
    *
-   * @param authorities array of authority strings
-   * @return immutable map of permission to scope value
+   * @param response the HTTP response
+   * @param reason the rejection reason
+   * @throws IOException if an I/O error occurs
    */
-  private Map<String, Byte> buildAuthoritiesMap(String[] authorities) {
-    Map<String, Byte> authoritiesMap = new HashMap<>();
-    for(String authority: authorities) {
-      String[] parts = authority.split("\\.");
-      String resourceAction = parts[0].concat(".").concat(parts[1]);
-      try {
-        authoritiesMap.put(resourceAction, Scope.valueOf(parts[2].toLowerCase()).getValue());
-      } catch (IllegalArgumentException e) {
-        authoritiesMap.put(resourceAction, Scope.NONE.getValue());
-      }
-    }
-    return Collections.unmodifiableMap(authoritiesMap);
+  private void reject(HttpServletResponse response, MalformedHeader reason) throws IOException {
+    rejectedCounts.get(reason).increment();
+    response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+    response.setContentType("text/plain");
+    response.setContentLength(BAD_REQUEST_BODY.length);
+    response.getOutputStream().write(BAD_REQUEST_BODY);
+  }
+
+  /**
+   * Runs on async dispatches as well, so the context is bound while the async result is processed.
+   *
+   * @return {@code false}
+   */
+  @Override
+  protected boolean shouldNotFilterAsyncDispatch() {
+    return false;
   }
 
   /**
@@ -128,6 +219,7 @@ public class SecurityFilter extends OncePerRequestFilter {
                     HttpServletRequest request,
                     HttpServletResponse response,
                     RequestContext requestContext) {
+    request.setAttribute(REQUEST_CONTEXT_ATTRIBUTE, requestContext);
     ScopedValue.where(RequestContextHolder.REQUEST_CONTEXT, requestContext)
         .run(() -> {
           try {
@@ -51,4 +51,23 @@ public enum Scope {
     this.value = i;
   }
 
+  /**
+   * Resolves a scope from its case-insensitive name without throwing.
+   *
+   * @param name the scope name (e.g., "tenant")
+   * @return the matching scope, or {@link #NONE} if the name is unknown
+   */
+  public static Scope parse(String name) {
+    if("own".equalsIgnoreCase(name)) {
+      return OWN;
+    }
+    if("tenant".equalsIgnoreCase(name)) {
+      return TENANT;
+    }
+    if("all".equalsIgnoreCase(name)) {
+      return ALL;
+    }
+    return NONE;
+  }
+
 }
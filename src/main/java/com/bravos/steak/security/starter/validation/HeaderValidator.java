@@ -0,0 +1,139 @@
+package com.bravos.steak.security.starter.validation;
+
+import lombok.Getter;
+
+/**
+ * Bounded-cost validation of security header values.
+ * <p>
+ * All checks run in a single pass over the value, never allocate and never throw,
+ * so malformed or fuzzed headers can be rejected cheaply.
+ * <p>
+ * Configuration:
+ * <ul>
+ *   <li>{@code security.headers.max-length} - maximum length of any security header (default 8192)</li>
+ *   <li>{@code security.headers.max-authorities} - maximum entries in X-Authorities or X-Roles (default 256)</li>
+ * </ul>
+ *
+ * @see MalformedHeader
+ */
+@Getter
+public class HeaderValidator {
+
+  /**
+   * Returned by {@link #parseId(String)} when the value is not a valid identifier.
+   */
+  public static final long INVALID_ID = Long.MIN_VALUE;
+
+  public static final int DEFAULT_MAX_LENGTH = 8192;
+
+  public static final int DEFAULT_MAX_AUTHORITIES = 256;
+
+  /**
+   * Maximum number of digits of a non-negative {@code long}.
+   */
+  private static final int MAX_ID_DIGITS = 19;
+
+  private final int maxLength;
+
+  private final int maxAuthorities;
+
+  public HeaderValidator() {
+    this(DEFAULT_MAX_LENGTH, DEFAULT_MAX_AUTHORITIES);
+  }
+
+  public HeaderValidator(int maxLength, int maxAuthorities) {
+    this.maxLength = maxLength;
+    this.maxAuthorities = maxAuthorities;
+  }
+
+  /**
+   * Checks that an optional header does not exceed the maximum length.
+   *
+   * @param value the header value, may be null
+   * @return true if the value is absent or within the limit
+   */
+  public boolean isValidLength(String value) {
+    return value == null || value.length() <= maxLength;
+  }
+
+  /**
+   * Parses a non-negative identifier without throwing.
+   *
+   * @param value the header value, may be null
+   * @return the identifier, or {@link #INVALID_ID} if the value is missing, not numeric or overflows
+   */
+  public long parseId(String value) {
+    if(value == null) {
+      return INVALID_ID;
+    }
+    final int length = value.length();
+    if(length == 0 || length > MAX_ID_DIGITS) {
+      return INVALID_ID;
+    }
+    long result = 0;
+    for(int i = 0; i < length; i++) {
+      final int digit = value.charAt(i) - '0';
+      if(digit < 0 || digit > 9) {
+        return INVALID_ID;
+      }
+      if(result > (Long.MAX_VALUE - digit) / 10) {
+        return INVALID_ID;
+      }
+      result = result * 10 + digit;
+    }
+    return result;
+  }
+
+  /**
+   * Checks a comma-separated list header (X-Authorities or X-Roles).
+   * <p>
+   * The value must be present, within the maximum length and contain at most the maximum number
+   * of entries. Entries may only use letters, digits, '.', '_', '-' and ':'. Spaces and tabs are
+   * tolerated around commas (e.g., "read.user.own, create.user.tenant") but not inside an entry.
+   * Empty entries are rejected, including leading and trailing commas (e.g., ",a", "a," or "a, ,b").
+   *
+   * @param value the header value, may be null
+   * @return true if the value is valid
+   */
+  public boolean isValidList(String value) {
+    if(value == null) {
+      return false;
+    }
+    final int length = value.length();
+    if(length == 0 || length > maxLength) {
+      return false;
+    }
+    int entries = 1;
+    boolean inEntry = false;
+    boolean afterEntry = false;
+    for(int i = 0; i < length; i++) {
+      final char c = value.charAt(i);
+      if(c == ',') {
+        if(!inEntry && !afterEntry) {
+          return false;
+        }
+        if(++entries > maxAuthorities) {
+          return false;
+        }
+        inEntry = false;
+        afterEntry = false;
+      } else if(c == ' ' || c == '\t') {
+        afterEntry = afterEntry || inEntry;
+        inEntry = false;
+      } else if(afterEntry || !isAllowed(c)) {
+        return false;
+      } else {
+        inEntry = true;
+      }
+    }
+    return inEntry || afterEntry;
+  }
+
+  private static boolean isAllowed(char c) {
+    return (c >= 'a' && c <= 'z')
+        || (c >= 'A' && c <= 'Z')
+        || (c >= '0' && c <= '9')
+        || c == '.' || c == '_' || c == '-' || c == ':';
+  }
+
+}
@@ -0,0 +1,42 @@
+package com.bravos.steak.security.starter.validation;
+
+/**
+ * Reasons for rejecting a request because of a malformed security header.
+ *
+ * @see HeaderValidator
+ * @see com.bravos.steak.security.starter.filter.SecurityFilter#getRejectedCount(MalformedHeader)
+ */
+public enum MalformedHeader {
+
+  /**
+   * X-TraceId exceeds the maximum header length.
+   */
+  TRACE_ID,
+
+  /**
+   * X-Authenticated is missing or not "true"/"false".
+   */
+  AUTHENTICATED,
+
+  /**
+   * X-DeviceId exceeds the maximum header length.
+   */
+  DEVICE_ID,
+
+  /**
+   * X-UserId is missing or not a valid identifier.
+   */
+  USER_ID,
+
+  /**
+   * X-TenantId is missing or not a valid identifier.
+   */
+  TENANT_ID,
+
+  /**
+   * Authorities (X-Authorities or X-Roles) are missing, too long, too many,
+   * contain disallowed characters or are not well formed.
+   */
+  AUTHORITIES
+
+}
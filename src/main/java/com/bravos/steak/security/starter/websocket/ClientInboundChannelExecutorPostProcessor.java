@@ -0,0 +1,40 @@
+package com.bravos.steak.security.starter.websocket;
+
+import com.bravos.steak.security.starter.context.TaskDecorators;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+/**
+ * Applies {@link RequestContextMessageTaskDecorator} to the STOMP client inbound channel executor.
+ * <p>
+ * A task decorator already configured on the executor is kept and applied inside the
+ * context binding. The pool configuration is left untouched. See {@link TaskDecorators}
+ * for the supported executor types.
+ * <p>
+ * If the executor cannot be decorated, a warning is logged: {@code @MessageMapping} methods
+ * then run without a bound request context.
+ *
+ * @see RequestContextMessageTaskDecorator
+ */
+@Slf4j
+public class ClientInboundChannelExecutorPostProcessor implements BeanPostProcessor {
+
+  /**
+   * Bean name of the client inbound channel executor registered by
+   * {@code @EnableWebSocketMessageBroker}.
+   */
+  public static final String CLIENT_INBOUND_CHANNEL_EXECUTOR = "clientInboundChannelExecutor";
+
+  @Override
+  public Object postProcessBeforeInitialization(@NonNull Object bean, @NonNull String beanName) {
+    if(CLIENT_INBOUND_CHANNEL_EXECUTOR.equals(beanName) && !TaskDecorators.apply(bean, existing ->
+        existing instanceof RequestContextMessageTaskDecorator ? existing : new RequestContextMessageTaskDecorator(existing))) {
+      log.warn("Cannot apply {} to '{}' of type {}; @MessageMapping methods will run without "
+              + "a bound request context. Set it as task decorator of the executor manually.",
+          RequestContextMessageTaskDecorator.class.getSimpleName(), beanName, bean.getClass().getName());
+    }
+    return bean;
+  }
+
+}
@@ -0,0 +1,60 @@
+package com.bravos.steak.security.starter.websocket;
+
+import com.bravos.steak.security.starter.context.RequestContext;
+import com.bravos.steak.security.starter.context.RequestContextHolder;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+
+import java.util.Map;
+
+/**
+ * Handshake interceptor that stores the {@link RequestContext} of the upgrade request
+ * in the WebSocket session attributes.
+ * <p>
+ * The upgrade request passes through {@link com.bravos.steak.security.starter.filter.SecurityFilter}
+ * like any other HTTP request, so the context bound there is reused as is. Headers are therefore
+ * parsed once per connection, not once per message. Handshakes without a bound context are rejected.
+ * <p>
+ * <strong>Usage Example:</strong>
+ * <pre>{@code
+ * @Override
+ * public void registerStompEndpoints(StompEndpointRegistry registry) {
+ *     registry.addEndpoint("/ws").addInterceptors(requestContextHandshakeInterceptor);
+ * }
+ * }</pre>
+ *
+ * @see RequestContextMessageTaskDecorator
+ */
+@Slf4j
+public class RequestContextHandshakeInterceptor implements HandshakeInterceptor {
+
+  /**
+   * Session attribute holding the {@link RequestContext} of the upgrade request.
+   */
+  public static final String REQUEST_CONTEXT_ATTRIBUTE = RequestContextHandshakeInterceptor.class.getName() + ".REQUEST_CONTEXT";
+
+  @Override
+  public boolean beforeHandshake(@NonNull ServerHttpRequest request,
+                                 @NonNull ServerHttpResponse response,
+                                 @NonNull WebSocketHandler wsHandler,
+                                 @NonNull Map<String, Object> attributes) {
+    if(!RequestContextHolder.REQUEST_CONTEXT.isBound()) {
+      log.warn("Rejecting WebSocket handshake without request context: {}", request.getURI());
+      return false;
+    }
+    attributes.put(REQUEST_CONTEXT_ATTRIBUTE, RequestContextHolder.get());
+    return true;
+  }
+
+  @Override
+  public void afterHandshake(@NonNull ServerHttpRequest request,
+                             @NonNull ServerHttpResponse response,
+                             @NonNull WebSocketHandler wsHandler,
+                             Exception exception) {
+  }
+
+}
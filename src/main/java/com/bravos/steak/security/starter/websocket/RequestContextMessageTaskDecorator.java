@@ -0,0 +1,68 @@
+package com.bravos.steak.security.starter.websocket;
+
+import com.bravos.steak.security.starter.context.RequestContext;
+import com.bravos.steak.security.starter.context.RequestContextHolder;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.MessageHandlingRunnable;
+
+import java.util.Map;
+
+/**
+ * {@link TaskDecorator} for the client inbound channel executor that binds
+ * {@link RequestContextHolder#REQUEST_CONTEXT} around each inbound message handler.
+ * <p>
+ * The context is read from the session attributes populated by
+ * {@link RequestContextHandshakeInterceptor}, so security annotations work on
+ * {@code @MessageMapping} methods without re-parsing headers per message.
+ * <p>
+ * A channel interceptor cannot wrap handler execution, which binding a {@link ScopedValue}
+ * requires, so the binding is applied to the executor tasks instead.
+ * <p>
+ * An optional delegate decorator (e.g., for MDC or tracing) is applied inside the binding,
+ * so it can read the request context as well.
+ *
+ * @see RequestContextHandshakeInterceptor
+ * @see ClientInboundChannelExecutorPostProcessor
+ */
+public class RequestContextMessageTaskDecorator implements TaskDecorator {
+
+  private final TaskDecorator delegate;
+
+  public RequestContextMessageTaskDecorator() {
+    this(null);
+  }
+
+  /**
+   * Creates a decorator that also applies the given decorator to each task.
+   *
+   * @param delegate the decorator to apply inside the context binding, may be null
+   */
+  public RequestContextMessageTaskDecorator(TaskDecorator delegate) {
+    this.delegate = delegate;
+  }
+
+  @Override
+  public Runnable decorate(Runnable runnable) {
+    final Runnable decorated = delegate == null ? runnable : delegate.decorate(runnable);
+    if(!(runnable instanceof MessageHandlingRunnable messageHandlingRunnable)) {
+      return decorated;
+    }
+    final RequestContext requestContext = getRequestContext(messageHandlingRunnable.getMessage());
+    if(requestContext == null) {
+      return decorated;
+    }
+    return () -> ScopedValue.where(RequestContextHolder.REQUEST_CONTEXT, requestContext).run(decorated);
+  }
+
+  private static RequestContext getRequestContext(Message<?> message) {
+    Map<String, Object> sessionAttributes = SimpMessageHeaderAccessor.getSessionAttributes(message.getHeaders());
+    if(sessionAttributes == null) {
+      return null;
+    }
+    return sessionAttributes.get(RequestContextHandshakeInterceptor.REQUEST_CONTEXT_ATTRIBUTE)
+        instanceof RequestContext requestContext ? requestContext : null;
+  }
+
+}
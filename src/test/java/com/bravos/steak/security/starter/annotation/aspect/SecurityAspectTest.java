@@ -0,0 +1,99 @@
+package com.bravos.steak.security.starter.annotation.aspect;
+
+import com.bravos.steak.commonutils.exceptions.ForbiddenException;
+import com.bravos.steak.commonutils.exceptions.UnauthorizeException;
+import com.bravos.steak.security.starter.annotation.HasAuthority;
+import com.bravos.steak.security.starter.authority.AuthorityParser;
+import com.bravos.steak.security.starter.context.CustomRequestContext;
+import com.bravos.steak.security.starter.context.RequestContextHolder;
+import com.bravos.steak.security.starter.model.Scope;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SecurityAspectTest {
+
+  private Endpoints endpoints;
+
+  @BeforeEach
+  void setUp() {
+    AspectJProxyFactory factory = new AspectJProxyFactory(new Endpoints());
+    factory.setProxyTargetClass(true);
+    factory.addAspect(new SecurityAspect());
+    endpoints = factory.getProxy();
+  }
+
+  @Test
+  void grantsExactScope() {
+    assertEquals("own", as("read.user.own", endpoints::readOwn));
+    assertEquals("tenant", as("read.user.tenant", endpoints::readTenant));
+    assertEquals("all", as("read.user.all", endpoints::readAll));
+  }
+
+  @Test
+  void deniesOtherScopes() {
+    assertThrows(ForbiddenException.class, () -> as("read.user.all", endpoints::readOwn));
+    assertThrows(ForbiddenException.class, () -> as("read.user.own", endpoints::readTenant));
+    assertThrows(ForbiddenException.class, () -> as("read.user.tenant", endpoints::readAll));
+  }
+
+  @Test
+  void grantsNoneOnlyForUnknownScopes() {
+    assertEquals("none", as("read.user.unknown", endpoints::readNone));
+    assertThrows(ForbiddenException.class, () -> as("read.user.own", endpoints::readNone));
+    assertThrows(ForbiddenException.class, () -> as("read.user.tenant", endpoints::readNone));
+    assertThrows(ForbiddenException.class, () -> as("read.user.all", endpoints::readNone));
+  }
+
+  @Test
+  void deniesMissingPermission() {
+    assertThrows(ForbiddenException.class, () -> as("update.user.own", endpoints::readOwn));
+  }
+
+  @Test
+  void rejectsUnauthenticatedRequests() {
+    CustomRequestContext requestContext = new CustomRequestContext();
+
+    assertThrows(UnauthorizeException.class, () ->
+        ScopedValue.where(RequestContextHolder.REQUEST_CONTEXT, requestContext).call(endpoints::readOwn));
+  }
+
+  private static String as(String authorities, Supplier<String> endpoint) {
+    CustomRequestContext requestContext = new CustomRequestContext();
+    requestContext.setAuthenticated(true);
+    requestContext.setUserId(1L);
+    requestContext.setTenantId(1L);
+    requestContext.setAuthorities(AuthorityParser.parse(authorities));
+    return ScopedValue.where(RequestContextHolder.REQUEST_CONTEXT, requestContext).call(endpoint::get);
+  }
+
+  static class Endpoints {
+
+    @HasAuthority(action = "read", resource = "user", scope = Scope.OWN)
+    public String readOwn() {
+      return "own";
+    }
+
+    @HasAuthority(action = "read", resource = "user", scope = Scope.TENANT)
+    public String readTenant() {
+      return "tenant";
+    }
+
+    @HasAuthority(action = "read", resource = "user", scope = Scope.ALL)
+    public String readAll() {
+      return "all";
+    }
+
+    @HasAuthority(action = "read", resource = "user", scope = Scope.NONE)
+    public String readNone() {
+      return "none";
+    }
+
+  }
+
+}
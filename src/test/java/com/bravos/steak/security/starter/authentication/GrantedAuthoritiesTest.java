@@ -0,0 +1,33 @@
+package com.bravos.steak.security.starter.authentication;
+
+import com.bravos.steak.security.starter.model.Scope;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class GrantedAuthoritiesTest {
+
+  @Test
+  void formatsAsActionResourceScope() {
+    assertEquals("read.user.own", GrantedAuthorities.of("read.user", Scope.OWN.getValue()).getAuthority());
+    assertEquals("create.order.tenant", GrantedAuthorities.of("create.order", Scope.TENANT.getValue()).getAuthority());
+    assertEquals("delete.user.all", GrantedAuthorities.of("delete.user", Scope.ALL.getValue()).getAuthority());
+    assertEquals("read.user.none", GrantedAuthorities.of("read.user", Scope.NONE.getValue()).getAuthority());
+  }
+
+  @Test
+  void returnsSameInstanceForSamePermissionAndScope() {
+    assertSame(GrantedAuthorities.of("read.user", Scope.OWN.getValue()),
+        GrantedAuthorities.of(new String("read.user"), Scope.OWN.getValue()));
+    assertNotSame(GrantedAuthorities.of("read.user", Scope.OWN.getValue()),
+        GrantedAuthorities.of("read.user", Scope.ALL.getValue()));
+  }
+
+  @Test
+  void mapsOutOfRangeScopesToNone() {
+    assertSame(GrantedAuthorities.of("read.user", Scope.NONE.getValue()), GrantedAuthorities.of("read.user", (byte) 9));
+  }
+
+}
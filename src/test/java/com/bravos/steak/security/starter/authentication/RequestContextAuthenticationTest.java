@@ -0,0 +1,71 @@
+package com.bravos.steak.security.starter.authentication;
+
+import com.bravos.steak.security.starter.authority.AuthorityParser;
+import com.bravos.steak.security.starter.context.CustomRequestContext;
+import com.bravos.steak.security.starter.model.Scope;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RequestContextAuthenticationTest {
+
+  @Test
+  void buildsAuthoritiesOnFirstAccessOnly() {
+    CountingRequestContext requestContext = new CountingRequestContext();
+    RequestContextAuthentication authentication = new RequestContextAuthentication(requestContext);
+
+    assertTrue(authentication.isAuthenticated());
+    assertEquals("42", authentication.getName());
+    assertEquals(42L, authentication.getPrincipal());
+    assertEquals(0, requestContext.authoritiesCalls);
+
+    Collection<? extends GrantedAuthority> authorities = authentication.getAuthorities();
+
+    assertEquals(1, requestContext.authoritiesCalls);
+    assertSame(authorities, authentication.getAuthorities());
+    assertEquals(1, requestContext.authoritiesCalls);
+  }
+
+  @Test
+  void usesInternedAuthorities() {
+    RequestContextAuthentication authentication = new RequestContextAuthentication(new CountingRequestContext());
+
+    GrantedAuthority authority = authentication.getAuthorities().iterator().next();
+
+    assertSame(GrantedAuthorities.of("read.user", Scope.OWN.getValue()), authority);
+  }
+
+  @Test
+  void cannotBeMarkedAuthenticated() {
+    RequestContextAuthentication authentication = new RequestContextAuthentication(new CountingRequestContext());
+
+    assertThrows(IllegalArgumentException.class, () -> authentication.setAuthenticated(true));
+  }
+
+  private static final class CountingRequestContext extends CustomRequestContext {
+
+    private int authoritiesCalls;
+
+    private CountingRequestContext() {
+      setAuthenticated(true);
+      setUserId(42L);
+      setTenantId(7L);
+      setAuthorities(AuthorityParser.parse("read.user.own"));
+    }
+
+    @Override
+    public Map<String, Byte> getAuthorities() {
+      authoritiesCalls++;
+      return super.getAuthorities();
+    }
+
+  }
+
+}
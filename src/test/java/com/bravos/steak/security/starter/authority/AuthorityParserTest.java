@@ -0,0 +1,58 @@
+package com.bravos.steak.security.starter.authority;
+
+import com.bravos.steak.security.starter.model.Scope;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AuthorityParserTest {
+
+  @Test
+  void mapsScopesCaseInsensitively() {
+    Map<String, Byte> authorities = AuthorityParser.parse("read.user.own,create.user.TENANT,delete.user.All");
+
+    assertEquals(Scope.OWN.getValue(), authorities.get("read.user"));
+    assertEquals(Scope.TENANT.getValue(), authorities.get("create.user"));
+    assertEquals(Scope.ALL.getValue(), authorities.get("delete.user"));
+  }
+
+  @Test
+  void mapsUnknownScopeToNone() {
+    assertEquals(Scope.NONE.getValue(), AuthorityParser.parse("read.user.global").get("read.user"));
+  }
+
+  @Test
+  void trimsWhitespaceAroundEntries() {
+    Map<String, Byte> authorities = AuthorityParser.parse("read.user.own, create.order.tenant");
+
+    assertEquals(Scope.OWN.getValue(), authorities.get("read.user"));
+    assertEquals(Scope.TENANT.getValue(), authorities.get("create.order"));
+  }
+
+  @Test
+  void rejectsEntriesWithoutExactlyTwoDots() {
+    assertNull(AuthorityParser.parse("read.user"));
+    assertNull(AuthorityParser.parse("read"));
+    assertNull(AuthorityParser.parse("read.user.own.extra"));
+    assertNull(AuthorityParser.parse("read.user.own,create.user"));
+  }
+
+  @Test
+  void rejectsEmptyParts() {
+    assertNull(AuthorityParser.parse(".user.own"));
+    assertNull(AuthorityParser.parse("read..own"));
+    assertNull(AuthorityParser.parse("read.user."));
+  }
+
+  @Test
+  void returnsImmutableMap() {
+    Map<String, Byte> authorities = AuthorityParser.parse("read.user.own");
+
+    assertThrows(UnsupportedOperationException.class, () -> authorities.put("x.y", Scope.ALL.getValue()));
+  }
+
+}
@@ -0,0 +1,54 @@
+package com.bravos.steak.security.starter.authority;
+
+import com.bravos.steak.security.starter.model.Scope;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class ResourceRolePermissionSourceTest {
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void loadsRoleTable() throws IOException {
+    Path roles = Files.writeString(directory.resolve("roles.properties"),
+        "1=read.user.own, update.user.own\n2=\n");
+
+    Map<String, Map<String, Byte>> table = new ResourceRolePermissionSource(roles.toUri().toString()).load();
+
+    assertEquals(Map.of("read.user", Scope.OWN.getValue(), "update.user", Scope.OWN.getValue()), table.get("1"));
+    assertEquals(Map.of(), table.get("2"));
+  }
+
+  @Test
+  void rejectsMalformedAuthorities() throws IOException {
+    Path roles = Files.writeString(directory.resolve("roles.properties"), "1=read.user\n");
+
+    assertThrows(IOException.class, () -> new ResourceRolePermissionSource(roles.toUri().toString()).load());
+  }
+
+  @Test
+  void timesOutOnStalledUrl() throws IOException {
+    try(ServerSocket server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+      String location = "http://127.0.0.1:" + server.getLocalPort() + "/roles.properties";
+      ResourceRolePermissionSource source =
+          new ResourceRolePermissionSource(new DefaultResourceLoader(), location, Duration.ofMillis(200));
+
+      assertTimeoutPreemptively(Duration.ofSeconds(5), () -> assertThrows(IOException.class, source::load));
+    }
+  }
+
+}
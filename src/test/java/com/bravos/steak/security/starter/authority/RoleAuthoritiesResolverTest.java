@@ -0,0 +1,146 @@
+package com.bravos.steak.security.starter.authority;
+
+import com.bravos.steak.security.starter.model.Scope;
+import com.bravos.steak.security.starter.validation.HeaderValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RoleAuthoritiesResolverTest {
+
+  private Map<String, Map<String, Byte>> table;
+
+  private IOException failure;
+
+  private RoleAuthoritiesResolver resolver;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    table = new HashMap<>();
+    table.put("1", AuthorityParser.parse("read.user.own,update.user.own"));
+    table.put("2", AuthorityParser.parse("read.user.tenant,create.order.tenant"));
+    table.put("3", AuthorityParser.parse("read.user.all"));
+    RolePermissionSource source = () -> {
+      if(failure != null) {
+        throw failure;
+      }
+      return table;
+    };
+    resolver = new RoleAuthoritiesResolver(source, new HeaderAuthoritiesResolver(),
+        new HeaderValidator(), Duration.ZERO);
+    resolver.afterPropertiesSet();
+  }
+
+  @Test
+  void broadestScopeWinsWhenRolesOverlap() {
+    Map<String, Byte> authorities = resolver.resolve(requestWithRoles("1,2"));
+
+    assertEquals(Scope.TENANT.getValue(), authorities.get("read.user"));
+    assertEquals(Scope.OWN.getValue(), authorities.get("update.user"));
+    assertEquals(Scope.TENANT.getValue(), authorities.get("create.order"));
+    assertEquals(Scope.ALL.getValue(), resolver.resolve(requestWithRoles("3,1")).get("read.user"));
+  }
+
+  @Test
+  void ignoresUnknownRoles() {
+    Map<String, Byte> authorities = resolver.resolve(requestWithRoles("1,99"));
+
+    assertEquals(Map.of("read.user", Scope.OWN.getValue(), "update.user", Scope.OWN.getValue()), authorities);
+  }
+
+  @Test
+  void memoizesExpansionPerRoleCombination() {
+    assertSame(resolver.resolve(requestWithRoles("1,2")), resolver.resolve(requestWithRoles("1,2")));
+  }
+
+  @Test
+  void sharesExpansionAcrossSpellingsOfSameCombination() {
+    Map<String, Byte> canonical = resolver.resolve(requestWithRoles("1,2"));
+
+    assertSame(canonical, resolver.resolve(requestWithRoles("2,1")));
+    assertSame(canonical, resolver.resolve(requestWithRoles("1, 2")));
+    assertSame(canonical, resolver.resolve(requestWithRoles("1,2,2")));
+    assertSame(canonical, resolver.resolve(requestWithRoles(" 2 ,1,1")));
+  }
+
+  @Test
+  void spellingsOfSameCombinationDoNotConsumeCap() {
+    for(int i = 1; i < RoleAuthoritiesResolver.MAX_MEMOIZED_COMBINATIONS; i++) {
+      resolver.resolve(requestWithRoles("1,r" + i));
+    }
+    Map<String, Byte> last = resolver.resolve(requestWithRoles("1,2"));
+
+    assertSame(last, resolver.resolve(requestWithRoles("2,1")));
+    assertSame(last, resolver.resolve(requestWithRoles("2,1,1")));
+  }
+
+  @Test
+  void stopsMemoizingAtCap() {
+    Map<String, Byte> first = resolver.resolve(requestWithRoles("1"));
+    for(int i = 1; i < RoleAuthoritiesResolver.MAX_MEMOIZED_COMBINATIONS; i++) {
+      resolver.resolve(requestWithRoles("1,r" + i));
+    }
+
+    Map<String, Byte> overflow = resolver.resolve(requestWithRoles("1,2"));
+
+    assertSame(first, resolver.resolve(requestWithRoles("1")));
+    assertNotSame(overflow, resolver.resolve(requestWithRoles("1,2")));
+    assertEquals(overflow, resolver.resolve(requestWithRoles("1,2")));
+  }
+
+  @Test
+  void refreshSwapsTableAndDropsMemoizedExpansions() {
+    Map<String, Byte> before = resolver.resolve(requestWithRoles("1"));
+    table = Map.of("1", AuthorityParser.parse("read.user.all"));
+
+    resolver.refresh();
+
+    Map<String, Byte> after = resolver.resolve(requestWithRoles("1"));
+    assertNotSame(before, after);
+    assertEquals(Map.of("read.user", Scope.ALL.getValue()), after);
+  }
+
+  @Test
+  void refreshKeepsSnapshotWhenSourceFails() {
+    Map<String, Byte> before = resolver.resolve(requestWithRoles("1"));
+    table = Map.of();
+    failure = new SocketTimeoutException("Read timed out");
+
+    resolver.refresh();
+
+    assertSame(before, resolver.resolve(requestWithRoles("1")));
+  }
+
+  @Test
+  void fallsBackToAuthoritiesHeaderWithoutRoles() {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.addHeader("X-Authorities", "delete.order.all");
+
+    assertEquals(Map.of("delete.order", Scope.ALL.getValue()), resolver.resolve(request));
+  }
+
+  @Test
+  void rejectsMalformedRoles() {
+    assertNull(resolver.resolve(requestWithRoles("1;2")));
+    assertTrue(resolver.resolve(requestWithRoles("1, 2")).containsKey("create.order"));
+  }
+
+  private static MockHttpServletRequest requestWithRoles(String roles) {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.addHeader("X-Roles", roles);
+    return request;
+  }
+
+}
@@ -0,0 +1,118 @@
+package com.bravos.steak.security.starter.authorization;
+
+import com.bravos.steak.security.starter.context.CustomRequestContext;
+import com.bravos.steak.security.starter.model.Scope;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BulkAuthorizerTest {
+
+  private static final PermissionCheck READ_ORDER = PermissionCheck.of("read", "order");
+
+  private static final PermissionCheck UPDATE_ORDER = PermissionCheck.of("update", "order");
+
+  private static final PermissionCheck DELETE_ORDER = PermissionCheck.of("delete", "order");
+
+  private static final long USER = 7L;
+
+  private static final long TENANT = 100L;
+
+  // row 0: own row in own tenant, row 1: other user in own tenant,
+  // row 2: other user in other tenant, row 3: own row in other tenant
+  private static final long[] OWNER_IDS = {USER, 8L, 9L, USER};
+
+  private static final long[] TENANT_IDS = {TENANT, TENANT, 200L, 200L};
+
+  @Test
+  void buildsPermissionKeyInActionResourceOrder() {
+    assertEquals("read.order", READ_ORDER.getPermission());
+  }
+
+  @Test
+  void allScopeAllowsEveryRow() {
+    BitSet allowed = authorize(Map.of("read.order", Scope.ALL.getValue()), READ_ORDER);
+
+    assertEquals(bits(0, 1, 2, 3), allowed);
+  }
+
+  @Test
+  void tenantScopeAllowsTenantAndOwnRows() {
+    BitSet allowed = authorize(Map.of("read.order", Scope.TENANT.getValue()), READ_ORDER);
+
+    assertEquals(bits(0, 1, 3), allowed);
+  }
+
+  @Test
+  void ownScopeAllowsOwnRows() {
+    BitSet allowed = authorize(Map.of("read.order", Scope.OWN.getValue()), READ_ORDER);
+
+    assertEquals(bits(0, 3), allowed);
+  }
+
+  @Test
+  void noneOrMissingScopeAllowsNothing() {
+    assertTrue(authorize(Map.of("read.order", Scope.NONE.getValue()), READ_ORDER).isEmpty());
+    assertTrue(authorize(Map.of(), READ_ORDER).isEmpty());
+  }
+
+  @Test
+  void evaluatesSeveralChecksInOnePass() {
+    CustomRequestContext context = context(Map.of(
+        "read.order", Scope.ALL.getValue(),
+        "update.order", Scope.TENANT.getValue(),
+        "delete.order", Scope.OWN.getValue()));
+
+    BitSet[] allowed = BulkAuthorizer.authorize(context,
+        new PermissionCheck[]{READ_ORDER, UPDATE_ORDER, DELETE_ORDER}, OWNER_IDS, TENANT_IDS);
+
+    assertEquals(bits(0, 1, 2, 3), allowed[0]);
+    assertEquals(bits(0, 1, 3), allowed[1]);
+    assertEquals(bits(0, 3), allowed[2]);
+  }
+
+  @Test
+  void unauthenticatedRequestsAllowNothing() {
+    CustomRequestContext context = context(Map.of("read.order", Scope.ALL.getValue()));
+    context.setAuthenticated(false);
+
+    BitSet[] allowed = BulkAuthorizer.authorize(context, new PermissionCheck[]{READ_ORDER}, OWNER_IDS, TENANT_IDS);
+
+    assertTrue(allowed[0].isEmpty());
+  }
+
+  @Test
+  void rejectsArraysOfDifferentLength() {
+    CustomRequestContext context = context(Map.of());
+
+    assertThrows(IllegalArgumentException.class, () ->
+        BulkAuthorizer.authorize(context, new PermissionCheck[]{READ_ORDER}, new long[2], new long[3]));
+  }
+
+  private static BitSet authorize(Map<String, Byte> authorities, PermissionCheck check) {
+    return BulkAuthorizer.authorize(context(authorities), new PermissionCheck[]{check}, OWNER_IDS, TENANT_IDS)[0];
+  }
+
+  private static CustomRequestContext context(Map<String, Byte> authorities) {
+    CustomRequestContext context = new CustomRequestContext();
+    context.setAuthenticated(true);
+    context.setUserId(USER);
+    context.setTenantId(TENANT);
+    context.setAuthorities(authorities);
+    return context;
+  }
+
+  private static BitSet bits(int... indexes) {
+    BitSet bitSet = new BitSet();
+    for(int index: indexes) {
+      bitSet.set(index);
+    }
+    return bitSet;
+  }
+
+}
@@ -0,0 +1,109 @@
+package com.bravos.steak.security.starter.context;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.DirectFieldAccessor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ApplicationTaskExecutorPostProcessorTest {
+
+  private final ApplicationTaskExecutorPostProcessor postProcessor = new ApplicationTaskExecutorPostProcessor();
+
+  private final Logger logger = (Logger) LoggerFactory.getLogger(ApplicationTaskExecutorPostProcessor.class);
+
+  private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+  private final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+  private final AtomicBoolean delegateSawContext = new AtomicBoolean();
+
+  private final TaskDecorator delegate = runnable -> () -> {
+    delegateSawContext.set(RequestContextHolder.REQUEST_CONTEXT.isBound());
+    runnable.run();
+  };
+
+  @BeforeEach
+  void setUp() {
+    appender.start();
+    logger.addAppender(appender);
+  }
+
+  @AfterEach
+  void tearDown() {
+    logger.detachAppender(appender);
+    executor.shutdown();
+  }
+
+  @Test
+  void wrapsExistingDecoratorBeforeInitialization() throws Exception {
+    executor.setTaskDecorator(delegate);
+
+    postProcessor.postProcessBeforeInitialization(executor, ApplicationTaskExecutorPostProcessor.APPLICATION_TASK_EXECUTOR);
+    executor.initialize();
+
+    CustomRequestContext requestContext = new CustomRequestContext();
+    AtomicReference<RequestContext> seen = new AtomicReference<>();
+    Future<?> future = ScopedValue.where(RequestContextHolder.REQUEST_CONTEXT, requestContext)
+        .call(() -> executor.submit(() -> seen.set(RequestContextHolder.get())));
+    future.get(5, TimeUnit.SECONDS);
+
+    assertSame(requestContext, seen.get());
+    assertTrue(delegateSawContext.get());
+    assertTrue(appender.list.isEmpty());
+  }
+
+  @Test
+  void doesNotWrapTwice() {
+    postProcessor.postProcessBeforeInitialization(executor, ApplicationTaskExecutorPostProcessor.APPLICATION_TASK_EXECUTOR);
+    Object decorator = taskDecorator();
+
+    postProcessor.postProcessBeforeInitialization(executor, ApplicationTaskExecutorPostProcessor.APPLICATION_TASK_EXECUTOR);
+
+    assertInstanceOf(RequestContextTaskDecorator.class, decorator);
+    assertSame(decorator, taskDecorator());
+  }
+
+  @Test
+  void leavesInitializedExecutorUnchangedAndWarns() {
+    executor.setTaskDecorator(delegate);
+    executor.initialize();
+
+    postProcessor.postProcessBeforeInitialization(executor, ApplicationTaskExecutorPostProcessor.APPLICATION_TASK_EXECUTOR);
+
+    assertSame(delegate, taskDecorator());
+    assertEquals(1, appender.list.size());
+    assertEquals(Level.WARN, appender.list.getFirst().getLevel());
+  }
+
+  @Test
+  void ignoresOtherBeans() {
+    executor.setTaskDecorator(delegate);
+
+    postProcessor.postProcessBeforeInitialization(executor, "otherExecutor");
+
+    assertSame(delegate, taskDecorator());
+    assertTrue(appender.list.isEmpty());
+  }
+
+  private Object taskDecorator() {
+    return new DirectFieldAccessor(executor).getPropertyValue("taskDecorator");
+  }
+
+}
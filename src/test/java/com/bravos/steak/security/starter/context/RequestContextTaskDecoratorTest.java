@@ -0,0 +1,44 @@
+package com.bravos.steak.security.starter.context;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RequestContextTaskDecoratorTest {
+
+  @Test
+  void bindsSubmittingContextAndRunsDelegateInsideBinding() {
+    CustomRequestContext requestContext = new CustomRequestContext();
+    AtomicBoolean delegateSawContext = new AtomicBoolean();
+    TaskDecorator delegate = runnable -> () -> {
+      delegateSawContext.set(RequestContextHolder.get() == requestContext);
+      runnable.run();
+    };
+    AtomicReference<RequestContext> seen = new AtomicReference<>();
+    RequestContextTaskDecorator decorator = new RequestContextTaskDecorator(delegate);
+
+    Runnable decorated = ScopedValue.where(RequestContextHolder.REQUEST_CONTEXT, requestContext)
+        .call(() -> decorator.decorate(() -> seen.set(RequestContextHolder.get())));
+    assertFalse(RequestContextHolder.REQUEST_CONTEXT.isBound());
+    decorated.run();
+
+    assertSame(requestContext, seen.get());
+    assertTrue(delegateSawContext.get());
+    assertFalse(RequestContextHolder.REQUEST_CONTEXT.isBound());
+  }
+
+  @Test
+  void returnsTaskUnchangedWithoutBoundContext() {
+    Runnable task = () -> {
+    };
+
+    assertSame(task, new RequestContextTaskDecorator().decorate(task));
+  }
+
+}
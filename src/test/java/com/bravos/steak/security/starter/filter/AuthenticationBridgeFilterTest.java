@@ -0,0 +1,84 @@
+package com.bravos.steak.security.starter.filter;
+
+import com.bravos.steak.security.starter.authentication.RequestContextAuthentication;
+import com.bravos.steak.security.starter.authority.AuthorityParser;
+import com.bravos.steak.security.starter.context.CustomRequestContext;
+import com.bravos.steak.security.starter.context.RequestContext;
+import com.bravos.steak.security.starter.context.RequestContextHolder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AuthenticationBridgeFilterTest {
+
+  private final AuthenticationBridgeFilter filter = new AuthenticationBridgeFilter();
+
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  void exposesAuthenticatedContextDuringChainAndClearsItAfterwards() throws Exception {
+    CustomRequestContext requestContext = requestContext(true);
+    AtomicReference<Authentication> seen = new AtomicReference<>();
+
+    filterWithContext(requestContext, seen);
+
+    RequestContextAuthentication authentication = assertInstanceOf(RequestContextAuthentication.class, seen.get());
+    assertSame(requestContext, authentication.getRequestContext());
+    assertNull(SecurityContextHolder.getContext().getAuthentication());
+  }
+
+  @Test
+  void leavesSecurityContextEmptyForUnauthenticatedRequests() throws Exception {
+    AtomicReference<Authentication> seen = new AtomicReference<>();
+
+    filterWithContext(requestContext(false), seen);
+
+    assertNull(seen.get());
+  }
+
+  @Test
+  void passesThroughWithoutBoundContext() throws Exception {
+    AtomicBoolean called = new AtomicBoolean();
+
+    filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), (req, res) -> {
+      called.set(true);
+      assertNull(SecurityContextHolder.getContext().getAuthentication());
+    });
+
+    assertTrue(called.get());
+  }
+
+  private void filterWithContext(RequestContext requestContext, AtomicReference<Authentication> seen) throws Exception {
+    ScopedValue.where(RequestContextHolder.REQUEST_CONTEXT, requestContext).<Void, Exception>call(() -> {
+      filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(),
+          (req, res) -> seen.set(SecurityContextHolder.getContext().getAuthentication()));
+      return null;
+    });
+  }
+
+  private static CustomRequestContext requestContext(boolean authenticated) {
+    CustomRequestContext requestContext = new CustomRequestContext();
+    requestContext.setAuthenticated(authenticated);
+    if(authenticated) {
+      requestContext.setUserId(42L);
+      requestContext.setTenantId(7L);
+      requestContext.setAuthorities(AuthorityParser.parse("read.user.own"));
+    }
+    return requestContext;
+  }
+
+}
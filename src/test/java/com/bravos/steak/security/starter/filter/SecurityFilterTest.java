@@ -0,0 +1,162 @@
+package com.bravos.steak.security.starter.filter;
+
+import com.bravos.steak.security.starter.authority.HeaderAuthoritiesResolver;
+import com.bravos.steak.security.starter.context.RequestContext;
+import com.bravos.steak.security.starter.context.RequestContextHolder;
+import com.bravos.steak.security.starter.model.Scope;
+import com.bravos.steak.security.starter.validation.HeaderValidator;
+import com.bravos.steak.security.starter.validation.MalformedHeader;
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SecurityFilterTest {
+
+  private final HeaderValidator headerValidator = new HeaderValidator(64, 3);
+
+  private final SecurityFilter filter =
+      new SecurityFilter(new HeaderAuthoritiesResolver(headerValidator), headerValidator);
+
+  @Test
+  void rejectsMissingAuthenticatedHeader() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/users");
+
+    assertRejected(request, MalformedHeader.AUTHENTICATED);
+  }
+
+  @Test
+  void rejectsInvalidAuthenticatedHeader() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/users");
+    request.addHeader("X-Authenticated", "yes");
+
+    assertRejected(request, MalformedHeader.AUTHENTICATED);
+  }
+
+  @Test
+  void rejectsOversizedTraceId() throws Exception {
+    MockHttpServletRequest request = authenticatedRequest();
+    request.addHeader("X-TraceId", "t".repeat(65));
+
+    assertRejected(request, MalformedHeader.TRACE_ID);
+  }
+
+  @Test
+  void rejectsInvalidUserId() throws Exception {
+    MockHttpServletRequest request = authenticatedRequest();
+    request.removeHeader("X-UserId");
+    request.addHeader("X-UserId", "12a");
+
+    assertRejected(request, MalformedHeader.USER_ID);
+  }
+
+  @Test
+  void rejectsInvalidTenantId() throws Exception {
+    MockHttpServletRequest request = authenticatedRequest();
+    request.removeHeader("X-TenantId");
+    request.addHeader("X-TenantId", "9223372036854775808");
+
+    assertRejected(request, MalformedHeader.TENANT_ID);
+  }
+
+  @Test
+  void rejectsMalformedAuthorities() throws Exception {
+    MockHttpServletRequest request = authenticatedRequest();
+    request.removeHeader("X-Authorities");
+    request.addHeader("X-Authorities", "read.user");
+
+    assertRejected(request, MalformedHeader.AUTHORITIES);
+  }
+
+  @Test
+  void rejectsEmptyAuthorityEntries() throws Exception {
+    MockHttpServletRequest request = authenticatedRequest();
+    request.removeHeader("X-Authorities");
+    request.addHeader("X-Authorities", "read.user.own,");
+
+    assertRejected(request, MalformedHeader.AUTHORITIES);
+  }
+
+  @Test
+  void bindsContextForAuthenticatedRequest() throws Exception {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    AtomicReference<RequestContext> bound = new AtomicReference<>();
+
+    filter.doFilter(authenticatedRequest(), response, (req, res) -> bound.set(RequestContextHolder.get()));
+
+    RequestContext requestContext = bound.get();
+    assertNotNull(requestContext);
+    assertTrue(requestContext.isAuthenticated());
+    assertEquals(42L, requestContext.getUserId());
+    assertEquals(7L, requestContext.getTenantId());
+    assertEquals(Map.of("read.user", Scope.OWN.getValue(), "create.order", Scope.TENANT.getValue()),
+        requestContext.getAuthorities());
+    assertEquals(200, response.getStatus());
+  }
+
+  @Test
+  void passesUnauthenticatedRequestWithoutIdentity() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/users");
+    request.addHeader("X-Authenticated", "false");
+    AtomicReference<RequestContext> bound = new AtomicReference<>();
+
+    filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> bound.set(RequestContextHolder.get()));
+
+    assertFalse(bound.get().isAuthenticated());
+    assertNull(bound.get().getUserId());
+  }
+
+  @Test
+  void rebindsSameContextOnAsyncDispatchWithoutReadingHeaders() throws Exception {
+    MockHttpServletRequest request = authenticatedRequest();
+    AtomicReference<RequestContext> initial = new AtomicReference<>();
+    filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> initial.set(RequestContextHolder.get()));
+
+    request.removeHeader("X-Authenticated");
+    request.removeHeader("X-UserId");
+    request.setDispatcherType(DispatcherType.ASYNC);
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    AtomicReference<RequestContext> async = new AtomicReference<>();
+    filter.doFilter(request, response, (req, res) -> async.set(RequestContextHolder.get()));
+
+    assertNotNull(initial.get());
+    assertSame(initial.get(), async.get());
+    assertEquals(200, response.getStatus());
+    assertEquals(0, filter.getRejectedCount(MalformedHeader.AUTHENTICATED));
+  }
+
+  private void assertRejected(MockHttpServletRequest request, MalformedHeader reason) throws Exception {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    MockFilterChain chain = new MockFilterChain();
+    long before = filter.getRejectedCount(reason);
+
+    filter.doFilter(request, response, chain);
+
+    assertEquals(400, response.getStatus());
+    assertEquals("text/plain", response.getContentType());
+    assertEquals("Bad Request", response.getContentAsString());
+    assertEquals(before + 1, filter.getRejectedCount(reason));
+    assertNull(chain.getRequest());
+  }
+
+  private static MockHttpServletRequest authenticatedRequest() {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/users");
+    request.addHeader("X-Authenticated", "true");
+    request.addHeader("X-UserId", "42");
+    request.addHeader("X-TenantId", "7");
+    request.addHeader("X-Authorities", "read.user.own, create.order.tenant");
+    return request;
+  }
+
+}
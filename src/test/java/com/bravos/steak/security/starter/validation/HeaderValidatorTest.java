@@ -0,0 +1,99 @@
+package com.bravos.steak.security.starter.validation;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HeaderValidatorTest {
+
+  private final HeaderValidator validator = new HeaderValidator(64, 3);
+
+  @Test
+  void parsesValidIds() {
+    assertEquals(0L, validator.parseId("0"));
+    assertEquals(42L, validator.parseId("42"));
+    assertEquals(Long.MAX_VALUE, validator.parseId("9223372036854775807"));
+  }
+
+  @Test
+  void rejectsOverflowingIds() {
+    assertEquals(HeaderValidator.INVALID_ID, validator.parseId("9223372036854775808"));
+    assertEquals(HeaderValidator.INVALID_ID, validator.parseId("9999999999999999999"));
+    assertEquals(HeaderValidator.INVALID_ID, validator.parseId("10000000000000000000"));
+  }
+
+  @Test
+  void rejectsNonDigitIds() {
+    assertEquals(HeaderValidator.INVALID_ID, validator.parseId("-1"));
+    assertEquals(HeaderValidator.INVALID_ID, validator.parseId("+1"));
+    assertEquals(HeaderValidator.INVALID_ID, validator.parseId("12a"));
+    assertEquals(HeaderValidator.INVALID_ID, validator.parseId(" 1"));
+  }
+
+  @Test
+  void rejectsMissingOrEmptyIds() {
+    assertEquals(HeaderValidator.INVALID_ID, validator.parseId(null));
+    assertEquals(HeaderValidator.INVALID_ID, validator.parseId(""));
+  }
+
+  @Test
+  void acceptsListsWithinEntryLimit() {
+    assertTrue(validator.isValidList("read.user.own"));
+    assertTrue(validator.isValidList("read.user.own,create.order.tenant,delete:x_y-z.all"));
+  }
+
+  @Test
+  void rejectsListsOverEntryLimit() {
+    assertFalse(validator.isValidList("a.b.own,c.d.own,e.f.own,g.h.own"));
+  }
+
+  @Test
+  void rejectsListsOverMaxLength() {
+    assertFalse(validator.isValidList("a".repeat(65)));
+  }
+
+  @Test
+  void rejectsMissingOrEmptyLists() {
+    assertFalse(validator.isValidList(null));
+    assertFalse(validator.isValidList(""));
+  }
+
+  @Test
+  void rejectsDisallowedCharacters() {
+    assertFalse(validator.isValidList("read.user.own;drop"));
+    assertFalse(validator.isValidList("read.user.own\n"));
+    assertFalse(validator.isValidList("read/user.own"));
+    assertFalse(validator.isValidList("read.usér.own"));
+  }
+
+  @Test
+  void toleratesWhitespaceAroundCommasOnly() {
+    assertTrue(validator.isValidList("read.user.own, create.order.tenant"));
+    assertTrue(validator.isValidList("1 ,\t2"));
+    assertFalse(validator.isValidList("read.user .own"));
+    assertFalse(validator.isValidList("1 2"));
+  }
+
+  @Test
+  void rejectsEmptyEntries() {
+    assertFalse(validator.isValidList(","));
+    assertFalse(validator.isValidList(" "));
+    assertFalse(validator.isValidList("read.user.own,"));
+    assertFalse(validator.isValidList("read.user.own, "));
+    assertFalse(validator.isValidList(",read.user.own"));
+    assertFalse(validator.isValidList(" ,read.user.own"));
+    assertFalse(validator.isValidList("a.b.own,,c.d.own"));
+    assertFalse(validator.isValidList("a.b.own, ,c.d.own"));
+    assertFalse(validator.isValidList("a.b.own,\t,c.d.own"));
+  }
+
+  @Test
+  void checksOptionalHeaderLength() {
+    assertTrue(validator.isValidLength(null));
+    assertTrue(validator.isValidLength("a".repeat(64)));
+    assertFalse(validator.isValidLength("a".repeat(65)));
+  }
+
+}
@@ -0,0 +1,51 @@
+package com.bravos.steak.security.starter.websocket;
+
+import com.bravos.steak.security.starter.context.CustomRequestContext;
+import com.bravos.steak.security.starter.context.RequestContextHolder;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RequestContextHandshakeInterceptorTest {
+
+  private final RequestContextHandshakeInterceptor interceptor = new RequestContextHandshakeInterceptor();
+
+  @Test
+  void storesBoundContextInSessionAttributes() {
+    CustomRequestContext requestContext = new CustomRequestContext();
+    Map<String, Object> attributes = new HashMap<>();
+
+    boolean accepted = ScopedValue.where(RequestContextHolder.REQUEST_CONTEXT, requestContext)
+        .call(() -> beforeHandshake(attributes));
+
+    assertTrue(accepted);
+    assertSame(requestContext, attributes.get(RequestContextHandshakeInterceptor.REQUEST_CONTEXT_ATTRIBUTE));
+  }
+
+  @Test
+  void rejectsHandshakeWithoutBoundContext() {
+    Map<String, Object> attributes = new HashMap<>();
+
+    assertFalse(beforeHandshake(attributes));
+    assertTrue(attributes.isEmpty());
+  }
+
+  private boolean beforeHandshake(Map<String, Object> attributes) {
+    return interceptor.beforeHandshake(
+        new ServletServerHttpRequest(new MockHttpServletRequest("GET", "/ws")),
+        new ServletServerHttpResponse(new MockHttpServletResponse()),
+        new TextWebSocketHandler(),
+        attributes);
+  }
+
+}
@@ -0,0 +1,96 @@
+package com.bravos.steak.security.starter.websocket;
+
+import com.bravos.steak.security.starter.context.CustomRequestContext;
+import com.bravos.steak.security.starter.context.RequestContext;
+import com.bravos.steak.security.starter.context.RequestContextHolder;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHandlingRunnable;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RequestContextMessageTaskDecoratorTest {
+
+  @Test
+  void bindsSessionContextAndRunsDelegateInsideBinding() {
+    CustomRequestContext requestContext = new CustomRequestContext();
+    AtomicReference<RequestContext> seen = new AtomicReference<>();
+    AtomicBoolean delegateSawContext = new AtomicBoolean();
+    TaskDecorator delegate = runnable -> () -> {
+      delegateSawContext.set(RequestContextHolder.get() == requestContext);
+      runnable.run();
+    };
+    Runnable task = new TestMessageHandlingRunnable(message(requestContext), () -> seen.set(RequestContextHolder.get()));
+
+    Runnable decorated = new RequestContextMessageTaskDecorator(delegate).decorate(task);
+    decorated.run();
+
+    assertSame(requestContext, seen.get());
+    assertTrue(delegateSawContext.get());
+    assertFalse(RequestContextHolder.REQUEST_CONTEXT.isBound());
+  }
+
+  @Test
+  void runsWithoutBindingWhenSessionHasNoContext() {
+    AtomicBoolean bound = new AtomicBoolean(true);
+    Runnable task = new TestMessageHandlingRunnable(message(null),
+        () -> bound.set(RequestContextHolder.REQUEST_CONTEXT.isBound()));
+
+    new RequestContextMessageTaskDecorator().decorate(task).run();
+
+    assertFalse(bound.get());
+  }
+
+  @Test
+  void passesThroughNonMessageTasks() {
+    Runnable task = () -> {
+    };
+    Runnable delegated = () -> {
+    };
+
+    assertSame(task, new RequestContextMessageTaskDecorator().decorate(task));
+    assertSame(delegated, new RequestContextMessageTaskDecorator(runnable -> delegated).decorate(task));
+  }
+
+  private static Message<byte[]> message(RequestContext requestContext) {
+    Map<String, Object> sessionAttributes = new HashMap<>();
+    if(requestContext != null) {
+      sessionAttributes.put(RequestContextHandshakeInterceptor.REQUEST_CONTEXT_ATTRIBUTE, requestContext);
+    }
+    SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create();
+    accessor.setSessionAttributes(sessionAttributes);
+    return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+  }
+
+  private record TestMessageHandlingRunnable(Message<?> message, Runnable handler) implements MessageHandlingRunnable {
+
+    @Override
+    public Message<?> getMessage() {
+      return message;
+    }
+
+    @Override
+    public MessageHandler getMessageHandler() {
+      return ignored -> handler.run();
+    }
+
+    @Override
+    public void run() {
+      getMessageHandler().handleMessage(message);
+    }
+
+  }
+
+}